@@ -2,8 +2,8 @@ package com.connectdeaf.config;
 
 import com.connectdeaf.domain.user.Role;
 import com.connectdeaf.domain.user.User;
-import com.connectdeaf.repositories.RoleRepository;
 import com.connectdeaf.repositories.UserRepository;
+import com.connectdeaf.services.RoleRegistry;
 import jakarta.transaction.Transactional;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Configuration;
@@ -15,12 +15,12 @@ import java.util.List;
 @Configuration
 public class AdminUserConfig implements CommandLineRunner {
 
-    private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
     private final UserRepository userRepository;
     private final BCryptPasswordEncoder passwordEncoder;
     
-    public AdminUserConfig(RoleRepository roleRepository, UserRepository userRepository, BCryptPasswordEncoder passwordEncoder) {
-        this.roleRepository = roleRepository;
+    public AdminUserConfig(RoleRegistry roleRegistry, UserRepository userRepository, BCryptPasswordEncoder passwordEncoder) {
+        this.roleRegistry = roleRegistry;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
     }
@@ -28,7 +28,7 @@ public class AdminUserConfig implements CommandLineRunner {
     @Override
     @Transactional
     public void run(String... args) throws Exception {
-        Role adminRole = roleRepository.findByName(Role.Values.ROLE_ADMIN.name());
+        Role adminRole = roleRegistry.get(Role.Values.ROLE_ADMIN);
 
         List<User> adminUsers = userRepository.findByEmail("admin@email.com");
         if (adminUsers.isEmpty()) {
@@ -0,0 +1,88 @@
+package com.connectdeaf.config;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPrivateKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.util.Base64URL;
+
+// O kid no JWK de cada chave permite aceitar tokens de dois algoritmos durante a troca
+public enum JwtSigningAlgorithm {
+    RS256("RSA", JWSAlgorithm.RS256),
+    ES256("EC", JWSAlgorithm.ES256),
+    EdDSA("Ed25519", JWSAlgorithm.EdDSA);
+
+    // Em X.509 a chave pública Ed25519 são os 32 bytes finais, após um prefixo DER fixo
+    private static final int ED25519_KEY_LENGTH = 32;
+
+    private final String keyType;
+    private final JWSAlgorithm jwsAlgorithm;
+
+    JwtSigningAlgorithm(String keyType, JWSAlgorithm jwsAlgorithm) {
+        this.keyType = keyType;
+        this.jwsAlgorithm = jwsAlgorithm;
+    }
+
+    public String keyType() {
+        return keyType;
+    }
+
+    public JWSAlgorithm jwsAlgorithm() {
+        return jwsAlgorithm;
+    }
+
+    // privateKey nulo: chave que só verifica
+    public JWK toJwk(PublicKey publicKey, PrivateKey privateKey) {
+        try {
+            return switch (this) {
+                case RS256 -> {
+                    RSAKey.Builder builder = new RSAKey.Builder((RSAPublicKey) publicKey);
+                    if (privateKey != null) {
+                        builder.privateKey((RSAPrivateKey) privateKey);
+                    }
+                    yield builder.keyUse(KeyUse.SIGNATURE)
+                            .algorithm(jwsAlgorithm)
+                            .keyIDFromThumbprint()
+                            .build();
+                }
+                case ES256 -> {
+                    ECKey.Builder builder = new ECKey.Builder(Curve.P_256, (ECPublicKey) publicKey);
+                    if (privateKey != null) {
+                        builder.privateKey((ECPrivateKey) privateKey);
+                    }
+                    yield builder.keyUse(KeyUse.SIGNATURE)
+                            .algorithm(jwsAlgorithm)
+                            .keyIDFromThumbprint()
+                            .build();
+                }
+                case EdDSA -> {
+                    byte[] encoded = publicKey.getEncoded();
+                    OctetKeyPair.Builder builder = new OctetKeyPair.Builder(Curve.Ed25519, Base64URL.encode(
+                            Arrays.copyOfRange(encoded, encoded.length - ED25519_KEY_LENGTH, encoded.length)));
+                    if (privateKey != null) {
+                        builder.d(Base64URL.encode(((EdECPrivateKey) privateKey).getBytes().orElseThrow()));
+                    }
+                    yield builder.keyUse(KeyUse.SIGNATURE)
+                            .algorithm(jwsAlgorithm)
+                            .keyIDFromThumbprint()
+                            .build();
+                }
+            };
+        } catch (JOSEException | ClassCastException e) {
+            throw new IllegalStateException("Key is not a valid " + name() + " key", e);
+        }
+    }
+}
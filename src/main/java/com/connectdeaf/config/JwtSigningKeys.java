@@ -0,0 +1,135 @@
+package com.connectdeaf.config;
+
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncodingException;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.Ed25519Verifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.crypto.factories.DefaultJWSSignerFactory;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.proc.BadJOSEException;
+import com.nimbusds.jose.proc.BadJWSException;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.nimbusds.jwt.proc.BadJWTException;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+
+// Durante a troca de chave ou algoritmo, a pública anterior valida os tokens antigos até expirarem
+public record JwtSigningKeys(
+        JwtSigningAlgorithm algorithm,
+        JWK signingKey,
+        JwtSigningAlgorithm previousAlgorithm,
+        JWK previousKey
+) {
+
+    public static JwtSigningKeys load(ResourceLoader resourceLoader, JwtSigningAlgorithm algorithm,
+                                      String publicKeyLocation, String privateKeyLocation,
+                                      JwtSigningAlgorithm previousAlgorithm, String previousPublicKeyLocation) {
+        JWK signingKey = algorithm.toJwk(
+                PemKeys.publicKey(resourceLoader.getResource(publicKeyLocation), algorithm.keyType()),
+                PemKeys.privateKey(resourceLoader.getResource(privateKeyLocation), algorithm.keyType()));
+        if (previousPublicKeyLocation == null || previousPublicKeyLocation.isBlank()) {
+            return new JwtSigningKeys(algorithm, signingKey, null, null);
+        }
+        JWK previousKey = previousAlgorithm.toJwk(PemKeys.publicKey(
+                resourceLoader.getResource(previousPublicKeyLocation), previousAlgorithm.keyType()), null);
+        return new JwtSigningKeys(algorithm, signingKey, previousAlgorithm, previousKey);
+    }
+
+    // O NimbusJwtEncoder só seleciona chaves RSA, EC e HMAC; assina direto com o Nimbus
+    public JwtEncoder encoder() {
+        JWSSigner signer;
+        try {
+            signer = new DefaultJWSSignerFactory().createJWSSigner(signingKey, algorithm.jwsAlgorithm());
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Cannot sign with the " + algorithm + " key", e);
+        }
+        JWSHeader header = new JWSHeader.Builder(algorithm.jwsAlgorithm()).keyID(signingKey.getKeyID()).build();
+        return parameters -> {
+            JwtClaimsSet claims = parameters.getClaims();
+            JWTClaimsSet.Builder jwtClaims = new JWTClaimsSet.Builder();
+            // O Nimbus serializa Date como segundos desde a época; Instant ele não conhece
+            claims.getClaims().forEach((name, value) -> jwtClaims.claim(name,
+                    value instanceof Instant instant ? Date.from(instant) : value));
+            SignedJWT jwt = new SignedJWT(header, jwtClaims.build());
+            try {
+                jwt.sign(signer);
+            } catch (JOSEException e) {
+                throw new JwtEncodingException("Failed to sign the token with " + algorithm, e);
+            }
+            return new Jwt(jwt.serialize(), claims.getIssuedAt(), claims.getExpiresAt(), header.toJSONObject(),
+                    claims.getClaims());
+        };
+    }
+
+    // Chave escolhida pelo alg e kid do token; tokens anteriores ao kid casam só pelo algoritmo
+    public JwtDecoder decoder() {
+        List<JWK> keys = new ArrayList<>(List.of(signingKey.toPublicJWK()));
+        if (previousKey != null) {
+            keys.add(previousKey.toPublicJWK());
+        }
+        return new NimbusJwtDecoder(new VerifyingProcessor(keys));
+    }
+
+    // O DefaultJWTProcessor converte JWK em chave JCA, o que o Nimbus não faz para Ed25519.
+    // exp e nbf ficam com os validadores do Spring, como no NimbusJwtDecoder.withPublicKey
+    private static final class VerifyingProcessor extends DefaultJWTProcessor<SecurityContext> {
+
+        private final Map<JWK, JWSVerifier> verifiers = new LinkedHashMap<>();
+
+        VerifyingProcessor(List<JWK> keys) {
+            try {
+                for (JWK key : keys) {
+                    verifiers.put(key, switch (key) {
+                        case RSAKey rsaKey -> new RSASSAVerifier(rsaKey);
+                        case ECKey ecKey -> new ECDSAVerifier(ecKey);
+                        case OctetKeyPair octetKeyPair -> new Ed25519Verifier(octetKeyPair);
+                        default -> throw new IllegalStateException("Unsupported key type " + key.getKeyType());
+                    });
+                }
+            } catch (JOSEException e) {
+                throw new IllegalStateException("Cannot verify with the configured keys", e);
+            }
+        }
+
+        @Override
+        public JWTClaimsSet process(SignedJWT jwt, SecurityContext context) throws BadJOSEException, JOSEException {
+            JWSHeader header = jwt.getHeader();
+            for (Map.Entry<JWK, JWSVerifier> entry : verifiers.entrySet()) {
+                JWK key = entry.getKey();
+                boolean matches = header.getAlgorithm().equals(key.getAlgorithm())
+                        && (header.getKeyID() == null || header.getKeyID().equals(key.getKeyID()));
+                if (matches && jwt.verify(entry.getValue())) {
+                    try {
+                        return jwt.getJWTClaimsSet();
+                    } catch (ParseException e) {
+                        throw new BadJWTException("Invalid JWT claims set", e);
+                    }
+                }
+            }
+            throw new BadJWSException("Signed JWT rejected: no configured key verifies it");
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.connectdeaf.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+import org.springframework.core.io.Resource;
+
+// Privadas em PKCS#8 e públicas em X.509, como geram openssl genpkey e openssl pkey -pubout
+final class PemKeys {
+
+    private PemKeys() {
+    }
+
+    static PrivateKey privateKey(Resource resource, String keyType) {
+        try {
+            return KeyFactory.getInstance(keyType).generatePrivate(new PKCS8EncodedKeySpec(der(resource)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid " + keyType + " private key in " + resource, e);
+        }
+    }
+
+    static PublicKey publicKey(Resource resource, String keyType) {
+        try {
+            return KeyFactory.getInstance(keyType).generatePublic(new X509EncodedKeySpec(der(resource)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid " + keyType + " public key in " + resource, e);
+        }
+    }
+
+    private static byte[] der(Resource resource) {
+        try (InputStream input = resource.getInputStream()) {
+            String pem = new String(input.readAllBytes(), StandardCharsets.US_ASCII);
+            return Base64.getMimeDecoder().decode(pem.replaceAll("-----[A-Z ]+-----", ""));
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read key " + resource, e);
+        }
+    }
+}
@@ -1,13 +1,11 @@
 package com.connectdeaf.config;
 
 import com.connectdeaf.domain.user.Role;
-import com.nimbusds.jose.jwk.JWK;
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
-import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -16,28 +14,21 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.http.HttpStatus;
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
 import java.util.Arrays;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
-    @Value("${jwt.public.key}")
-    private RSAPublicKey rsaPublicKey;
-
-    @Value("${jwt.private.key}")
-    private RSAPrivateKey rsaPrivateKey;
-
     @Bean
     SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -51,6 +42,9 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/services").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
 
+                        // Rotas administrativas
+                        .requestMatchers(HttpMethod.POST, "/api/professionals/import").hasRole("ADMIN")
+
                         // Rotas específicas para profissionais
                         .requestMatchers(HttpMethod.PATCH, "/api/services/*").hasRole("PROFESSIONAL")
                         .requestMatchers(HttpMethod.PATCH, "/api/appointments/*/approve").hasRole("PROFESSIONAL")
@@ -74,15 +68,38 @@ public class SecurityConfig {
     }
 
     @Bean
-    public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withPublicKey(rsaPublicKey).build();
+    public JwtSigningKeys jwtSigningKeys(ResourceLoader resourceLoader,
+                                         @Value("${jwt.signing.algorithm:RS256}") JwtSigningAlgorithm algorithm,
+                                         @Value("${jwt.public.key}") String publicKey,
+                                         @Value("${jwt.private.key}") String privateKey,
+                                         @Value("${jwt.previous.algorithm:RS256}") JwtSigningAlgorithm previousAlgorithm,
+                                         @Value("${jwt.previous.public.key:}") String previousPublicKey) {
+        return JwtSigningKeys.load(resourceLoader, algorithm, publicKey, privateKey, previousAlgorithm,
+                previousPublicKey);
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(JwtSigningKeys jwtSigningKeys, MeterRegistry meterRegistry,
+                                 @Value("${connectdeaf.auth.jwt-cache.max-size:10000}") long maxSize,
+                                 @Value("${connectdeaf.auth.jwt-cache.max-ttl:PT1H}") Duration maxTtl) {
+        // O mesmo token é reapresentado a cada requisição: a verificação da assinatura roda uma vez
+        return new CachingJwtDecoder(jwtSigningKeys.decoder(), meterRegistry, maxSize, maxTtl);
+    }
+
+    @Bean
+    public JwtEncoder jwtEncoder(JwtSigningKeys jwtSigningKeys) {
+        return jwtSigningKeys.encoder();
     }
 
     @Bean
-    public JwtEncoder jwtEncoder() {
-        JWK jwk = new RSAKey.Builder(this.rsaPublicKey).privateKey(this.rsaPrivateKey).build();
-        var jwks = new ImmutableJWKSet<>(new JWKSet(jwk));
-        return new NimbusJwtEncoder(jwks);
+    public JwtAuthenticationConverter jwtAuthenticationConverter() {
+        // Os papéis vêm na claim "roles" já com o prefixo ROLE_ (ver AuthService)
+        JwtGrantedAuthoritiesConverter authoritiesConverter = new JwtGrantedAuthoritiesConverter();
+        authoritiesConverter.setAuthoritiesClaimName("roles");
+        authoritiesConverter.setAuthorityPrefix("");
+        JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
+        converter.setJwtGrantedAuthoritiesConverter(authoritiesConverter);
+        return converter;
     }
 
     @Bean
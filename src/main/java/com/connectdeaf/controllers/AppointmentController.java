@@ -1,9 +1,13 @@
 package com.connectdeaf.controllers;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,12 +17,16 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import com.connectdeaf.controllers.dtos.requests.AppointmentRequestDTO;
+import com.connectdeaf.controllers.dtos.response.AppointmentPageResponseDTO;
 import com.connectdeaf.controllers.dtos.response.AppointmentResponseDTO;
 import com.connectdeaf.services.AppointmentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.validation.Valid;
 
@@ -27,9 +35,11 @@ import jakarta.validation.Valid;
 @CrossOrigin(origins = "http://localhost:5173, https://app-connectdeaf-web-hml.azurewebsites.net") 
 public class AppointmentController {
     private final AppointmentService appointmentService;
+    private final ObjectMapper objectMapper;
 
-    public AppointmentController(AppointmentService appointmentService) {
+    public AppointmentController(AppointmentService appointmentService, ObjectMapper objectMapper) {
         this.appointmentService = appointmentService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -55,6 +65,18 @@ public class AppointmentController {
         return ResponseEntity.ok(appointments);
     }
 
+    @GetMapping(params = "size")
+    public ResponseEntity<AppointmentPageResponseDTO> getAppointmentsPage(
+            @RequestParam int size,
+            @RequestParam(required = false) String cursor) {
+        return ResponseEntity.ok(appointmentService.findAppointmentsPage(cursor, size));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllAppointments() {
+        return ndjson(appointmentService::streamAllAppointments);
+    }
+
     @DeleteMapping("/{appointment_id}")
     public ResponseEntity<Void> deleteAppointment(@PathVariable("appointment_id") UUID appointmentId) {
         appointmentService.deleteAppointment(appointmentId);
@@ -96,11 +118,52 @@ public class AppointmentController {
         return ResponseEntity.ok(appointments);
     }
 
+    @GetMapping(value = "/professional/{professional_id}", params = "size")
+    public ResponseEntity<AppointmentPageResponseDTO> getAppointmentsPageByProfessional(
+            @PathVariable("professional_id") UUID professionalId,
+            @RequestParam int size,
+            @RequestParam(required = false) String cursor) {
+        return ResponseEntity.ok(appointmentService.findAppointmentsPageByProfessional(professionalId, cursor, size));
+    }
+
+    @GetMapping(value = "/professional/{professional_id}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAppointmentsByProfessional(
+            @PathVariable("professional_id") UUID professionalId) {
+        return ndjson(consumer -> appointmentService.streamAppointmentsByProfessional(professionalId, consumer));
+    }
+
     @GetMapping("/customer/{customer_id}")
     public ResponseEntity<List<AppointmentResponseDTO>> getAppointmentsByCustomer(
             @PathVariable("customer_id") UUID customerId) {
         List<AppointmentResponseDTO> appointments = appointmentService.findAppointmentsByCustomer(customerId);
         return ResponseEntity.ok(appointments);
     }
+
+    @GetMapping(value = "/customer/{customer_id}", params = "size")
+    public ResponseEntity<AppointmentPageResponseDTO> getAppointmentsPageByCustomer(
+            @PathVariable("customer_id") UUID customerId,
+            @RequestParam int size,
+            @RequestParam(required = false) String cursor) {
+        return ResponseEntity.ok(appointmentService.findAppointmentsPageByCustomer(customerId, cursor, size));
+    }
+
+    @GetMapping(value = "/customer/{customer_id}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAppointmentsByCustomer(
+            @PathVariable("customer_id") UUID customerId) {
+        return ndjson(consumer -> appointmentService.streamAppointmentsByCustomer(customerId, consumer));
+    }
+
+    // Cada agendamento é escrito como uma linha JSON assim que é lido do cursor
+    private ResponseEntity<StreamingResponseBody> ndjson(Consumer<Consumer<AppointmentResponseDTO>> source) {
+        StreamingResponseBody body = outputStream -> source.accept(appointment -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(appointment));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
 }
 
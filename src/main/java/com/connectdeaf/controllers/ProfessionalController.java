@@ -1,16 +1,36 @@
 package com.connectdeaf.controllers;
 
 import com.connectdeaf.controllers.dtos.requests.ProfessionalRequestDTO;
+import com.connectdeaf.controllers.dtos.response.AvailableSlotResponseDTO;
+import com.connectdeaf.controllers.dtos.response.DayAvailabilityResponseDTO;
+import com.connectdeaf.controllers.dtos.response.ProfessionalDirectoryPageResponseDTO;
+import com.connectdeaf.controllers.dtos.response.ProfessionalImportSummaryDTO;
+import com.connectdeaf.controllers.dtos.response.ProfessionalProfileResponseDTO;
+import com.connectdeaf.controllers.dtos.response.ProfessionalRankingPageResponseDTO;
 import com.connectdeaf.controllers.dtos.response.ProfessionalResponseDTO;
 import com.connectdeaf.controllers.dtos.response.ScheduleResponseDTO;
+import com.connectdeaf.domain.professional.ProfessionalImportFormat;
+import com.connectdeaf.services.ProfessionalImportService;
+import com.connectdeaf.services.ProfessionalProfileService;
+import com.connectdeaf.services.ProfessionalRankingService;
 import com.connectdeaf.services.ProfessionalService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -19,9 +39,20 @@ import java.util.UUID;
 @CrossOrigin(origins = "http://localhost:5173, https://app-connectdeaf-web-hml.azurewebsites.net") 
 public class ProfessionalController {
     private final ProfessionalService professionalService;
+    private final ProfessionalImportService professionalImportService;
+    private final ProfessionalProfileService professionalProfileService;
+    private final ProfessionalRankingService professionalRankingService;
+    private final ObjectMapper objectMapper;
 
-    public ProfessionalController(ProfessionalService professionalService) {
+    public ProfessionalController(ProfessionalService professionalService,
+            ProfessionalImportService professionalImportService,
+            ProfessionalProfileService professionalProfileService,
+            ProfessionalRankingService professionalRankingService, ObjectMapper objectMapper) {
         this.professionalService = professionalService;
+        this.professionalImportService = professionalImportService;
+        this.professionalProfileService = professionalProfileService;
+        this.professionalRankingService = professionalRankingService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -32,12 +63,67 @@ public class ProfessionalController {
         return ResponseEntity.status(HttpStatus.CREATED).body(professionalResponseDTO);
     }
 
+    // Uma linha JSON por registro importado ou rejeitado, seguida do resumo com linhas/segundo
+    @PostMapping(value = "/import",
+            consumes = { ProfessionalImportFormat.CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE },
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importProfessionals(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, HttpServletRequest request) {
+        ProfessionalImportFormat format = ProfessionalImportFormat.fromContentType(contentType);
+        StreamingResponseBody body = outputStream -> {
+            ProfessionalImportSummaryDTO summary = professionalImportService.importProfessionals(
+                    request.getInputStream(), format, result -> writeLine(outputStream, result));
+            writeLine(outputStream, summary);
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping("/earliest-available")
+    public ResponseEntity<List<AvailableSlotResponseDTO>> getEarliestAvailable(
+            @RequestParam String areaOfExpertise,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(defaultValue = "5") int limit) {
+        // Nunca oferece horários que já passaram
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime notBefore = from == null || !from.isAfter(now.toLocalDate()) ? now : from.atStartOfDay();
+        List<AvailableSlotResponseDTO> slots = professionalService.findEarliestAvailable(areaOfExpertise, city,
+                notBefore, limit);
+        return ResponseEntity.ok(slots);
+    }
+
+    @GetMapping("/directory")
+    public ResponseEntity<ProfessionalDirectoryPageResponseDTO> getProfessionalDirectory(
+            @RequestParam(required = false) String areaOfExpertise,
+            @RequestParam(required = false) String qualification,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(professionalService.findDirectoryPage(areaOfExpertise, qualification, cursor, size));
+    }
+
+    // Mais atendimentos concluídos primeiro
+    @GetMapping("/ranking")
+    public ResponseEntity<ProfessionalRankingPageResponseDTO> getProfessionalRanking(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(professionalRankingService.findRankingPage(cursor, size));
+    }
+
     @GetMapping("/{professional_id}")
     public ResponseEntity<ProfessionalResponseDTO> getProfessional(@PathVariable UUID professional_id) {
         ProfessionalResponseDTO professionalResponseDTO = professionalService.findById(professional_id);
         return ResponseEntity.ok(professionalResponseDTO);
     }
 
+    // Perfil, serviços e disponibilidade do dia (hoje por padrão) em uma só chamada
+    @GetMapping("/{professional_id}/profile")
+    public ResponseEntity<ProfessionalProfileResponseDTO> getProfessionalProfile(
+            @PathVariable UUID professional_id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(professionalProfileService.getProfile(professional_id,
+                date == null ? LocalDate.now() : date));
+    }
+
     @GetMapping
     public ResponseEntity<List<ProfessionalResponseDTO>> getAllProfessionals() {
         List<ProfessionalResponseDTO> professionalResponseDTOList = professionalService.findAll();
@@ -67,4 +153,24 @@ public class ProfessionalController {
                 date);
         return ResponseEntity.ok(schedules);
     }
+
+    @GetMapping("/{professionalId}/availability")
+    public ResponseEntity<List<DayAvailabilityResponseDTO>> getAvailabilityByProfessional(
+            @PathVariable UUID professionalId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        List<DayAvailabilityResponseDTO> availability = professionalService.getAvailabilityByProfessional(
+                professionalId, from, to);
+        return ResponseEntity.ok(availability);
+    }
+
+    private void writeLine(OutputStream outputStream, Object value) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(value));
+            outputStream.write('\n');
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
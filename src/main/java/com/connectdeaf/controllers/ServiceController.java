@@ -17,8 +17,9 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import com.connectdeaf.controllers.dtos.requests.ServiceRequestDTO;
+import com.connectdeaf.controllers.dtos.response.ServicePageResponseDTO;
 import com.connectdeaf.controllers.dtos.response.ServiceResponseDTO;
-import com.connectdeaf.domain.service.ServiceEntity;
+import com.connectdeaf.controllers.dtos.response.ServiceSuggestionResponseDTO;
 import com.connectdeaf.services.ServiceService;
 
 import jakarta.validation.Valid;
@@ -70,12 +71,36 @@ public class ServiceController {
     }
     
 
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<ServiceSuggestionResponseDTO>> autocompleteServices(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<ServiceSuggestionResponseDTO> suggestions = serviceService.autocompleteServices(q, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+
+    @GetMapping(value = "/search", params = "q")
+    public ResponseEntity<List<ServiceResponseDTO>> searchServices(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<ServiceResponseDTO> services = serviceService.searchServices(q, limit);
+        return ResponseEntity.ok(services);
+    }
+
     @GetMapping("/search")
-    public ResponseEntity<List<ServiceEntity>> findServices(
+    public ResponseEntity<ServicePageResponseDTO> findServices(
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String city,
-            @RequestParam(required = false) String state) {
-        List<ServiceEntity> services = serviceService.findServices(name, city, state);
+            @RequestParam(required = false) String state,
+            @RequestParam(required = false) String areaOfExpertise,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(defaultValue = "name") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        ServicePageResponseDTO services = serviceService.searchCatalog(name, city, state, areaOfExpertise, minPrice,
+                maxPrice, sort, cursor, page, size);
         return ResponseEntity.ok(services);
     }
 }
@@ -0,0 +1,15 @@
+package com.connectdeaf.controllers.dtos.response;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+public record AvailableSlotResponseDTO(
+        UUID professionalId,
+        String professionalName,
+        String areaOfExpertise,
+        LocalDate date,
+        LocalTime startTime,
+        LocalTime endTime
+) {
+}
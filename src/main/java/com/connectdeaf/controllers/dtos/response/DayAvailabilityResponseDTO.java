@@ -0,0 +1,10 @@
+package com.connectdeaf.controllers.dtos.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record DayAvailabilityResponseDTO(
+        LocalDate date,
+        List<ScheduleResponseDTO> schedules
+) {
+}
@@ -0,0 +1,7 @@
+package com.connectdeaf.controllers.dtos.response;
+
+public record FacetCountResponseDTO(
+        String value,
+        long count
+) {
+}
@@ -0,0 +1,24 @@
+package com.connectdeaf.controllers.dtos.response;
+
+import java.util.UUID;
+
+public record ProfessionalImportResultDTO(
+        int row,               // Posição do registro no arquivo, a partir de 1 (sem contar o cabeçalho do CSV)
+        String email,
+        Status status,
+        UUID professionalId,   // Nulo quando a linha falhou
+        String error           // Nulo quando a linha foi importada
+) {
+    public enum Status {
+        IMPORTED,
+        FAILED
+    }
+
+    public static ProfessionalImportResultDTO imported(int row, String email, UUID professionalId) {
+        return new ProfessionalImportResultDTO(row, email, Status.IMPORTED, professionalId, null);
+    }
+
+    public static ProfessionalImportResultDTO failed(int row, String email, String error) {
+        return new ProfessionalImportResultDTO(row, email, Status.FAILED, null, error);
+    }
+}
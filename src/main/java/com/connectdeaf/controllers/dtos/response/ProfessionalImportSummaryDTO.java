@@ -0,0 +1,10 @@
+package com.connectdeaf.controllers.dtos.response;
+
+public record ProfessionalImportSummaryDTO(
+        int rows,
+        int imported,
+        int failed,
+        long elapsedMillis,
+        double rowsPerSecond
+) {
+}
@@ -0,0 +1,12 @@
+package com.connectdeaf.controllers.dtos.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record ProfessionalProfileResponseDTO(
+        ProfessionalResponseDTO professional,
+        List<ServiceResponseDTO> services,
+        LocalDate date,                         // Dia da disponibilidade abaixo
+        List<ScheduleResponseDTO> availability
+) {
+}
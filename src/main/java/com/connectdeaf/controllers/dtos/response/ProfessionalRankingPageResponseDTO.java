@@ -0,0 +1,9 @@
+package com.connectdeaf.controllers.dtos.response;
+
+import java.util.List;
+
+public record ProfessionalRankingPageResponseDTO(
+        List<ProfessionalRankingResponseDTO> content,
+        String nextCursor  // Nulo quando não há mais páginas
+) {
+}
@@ -0,0 +1,13 @@
+package com.connectdeaf.controllers.dtos.response;
+
+import java.util.UUID;
+
+public record ProfessionalRankingResponseDTO(
+        UUID id,
+        String name,
+        String areaOfExpertise,
+        long finishedAppointments,
+        long cancelledAppointments,
+        long rejectedAppointments
+) {
+}
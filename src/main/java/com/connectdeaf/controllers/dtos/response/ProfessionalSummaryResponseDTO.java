@@ -0,0 +1,11 @@
+package com.connectdeaf.controllers.dtos.response;
+
+import java.util.UUID;
+
+public record ProfessionalSummaryResponseDTO(
+        UUID id,
+        String name,
+        String areaOfExpertise,
+        String city
+) {
+}
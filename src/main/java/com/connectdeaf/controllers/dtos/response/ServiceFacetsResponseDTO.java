@@ -0,0 +1,11 @@
+package com.connectdeaf.controllers.dtos.response;
+
+import java.util.List;
+
+public record ServiceFacetsResponseDTO(
+        List<FacetCountResponseDTO> states,
+        List<FacetCountResponseDTO> cities,
+        List<FacetCountResponseDTO> areasOfExpertise,
+        List<FacetCountResponseDTO> priceBands
+) {
+}
@@ -0,0 +1,13 @@
+package com.connectdeaf.controllers.dtos.response;
+
+import java.util.List;
+
+public record ServicePageResponseDTO(
+        List<ServiceResponseDTO> content,
+        int page,
+        int size,
+        Long totalElements,  // Nulo nas páginas pedidas por cursor
+        ServiceFacetsResponseDTO facets,  // Nulo nas páginas pedidas por cursor
+        String nextCursor  // Nulo quando não há mais páginas
+) {
+}
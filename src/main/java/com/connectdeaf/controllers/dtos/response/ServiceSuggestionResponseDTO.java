@@ -0,0 +1,9 @@
+package com.connectdeaf.controllers.dtos.response;
+
+import java.util.UUID;
+
+public record ServiceSuggestionResponseDTO(
+        UUID id,
+        String name
+) {
+}
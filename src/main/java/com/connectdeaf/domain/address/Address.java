@@ -3,13 +3,23 @@ package com.connectdeaf.domain.address;
 import com.connectdeaf.domain.user.User;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import java.util.Locale;
 import java.util.UUID;
 
 @Entity
-@Table(name = "TB_ADDRESS")
+@Table(name = "TB_ADDRESS", indexes = {
+        @Index(name = "idx_address_state_city_user", columnList = "state_normalized, city_normalized, user_id"),
+        @Index(name = "idx_address_city_user", columnList = "city_normalized, user_id"),
+        @Index(name = "idx_address_user_city", columnList = "user_id, city")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "addresses")
 @Getter
 @Setter
 public class Address {
@@ -23,7 +33,27 @@ public class Address {
     @NotBlank private String neighborhood;
     @NotBlank private String city;
     @NotBlank private String state;
+
+    // Cópias normalizadas de city/state usadas nos filtros de localização indexados
+    @Setter(AccessLevel.NONE)
+    @Column(name = "city_normalized")
+    private String cityNormalized;
+    @Setter(AccessLevel.NONE)
+    @Column(name = "state_normalized")
+    private String stateNormalized;
+
     @ManyToOne
     @JoinColumn(name = "user_id")
     private User user;
+
+    @PrePersist
+    @PreUpdate
+    void normalizeLocation() {
+        this.cityNormalized = normalize(city);
+        this.stateNormalized = normalize(state);
+    }
+
+    public static String normalize(String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
 }
@@ -0,0 +1,38 @@
+package com.connectdeaf.domain.appointment;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.connectdeaf.exceptions.InvalidCursorException;
+
+// date e startTime nulos: a listagem já chegou aos agendamentos sem horário, que vêm por último
+public record AppointmentCursor(LocalDate date, LocalTime startTime, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = (date == null ? "" : date) + SEPARATOR + (startTime == null ? "" : startTime) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static AppointmentCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3 || parts[0].isEmpty() != parts[1].isEmpty()) {
+                throw new InvalidCursorException();
+            }
+            if (parts[0].isEmpty()) {
+                return new AppointmentCursor(null, null, UUID.fromString(parts[2]));
+            }
+            return new AppointmentCursor(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]),
+                    UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException();
+        }
+    }
+}
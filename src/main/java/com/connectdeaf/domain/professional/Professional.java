@@ -10,6 +10,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.UUID;
 import java.time.Duration;
@@ -18,6 +20,8 @@ import java.util.List;
 // teste
 @Entity
 @Table(name = "TB_PROFESSIONAL")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "professionals")
 @Getter
 @Setter
 @NoArgsConstructor
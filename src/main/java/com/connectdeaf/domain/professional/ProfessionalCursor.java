@@ -0,0 +1,31 @@
+package com.connectdeaf.domain.professional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.connectdeaf.exceptions.InvalidCursorException;
+
+public record ProfessionalCursor(String name, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        // O nome pode conter o separador; fica por último para o split limitado
+        String raw = id + SEPARATOR + name;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ProfessionalCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            if (parts.length != 2) {
+                throw new InvalidCursorException();
+            }
+            return new ProfessionalCursor(parts[1], UUID.fromString(parts[0]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+    }
+}
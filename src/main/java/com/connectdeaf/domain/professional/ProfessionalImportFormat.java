@@ -0,0 +1,16 @@
+package com.connectdeaf.domain.professional;
+
+import org.springframework.http.MediaType;
+
+// CSV: cabeçalho e um endereço por linha (name, email, password, phoneNumber, qualification, areaOfExpertise,
+// workStartTime, workEndTime, breakDuration, cep, street, number, complement, neighborhood, city, state)
+public enum ProfessionalImportFormat {
+    CSV,
+    NDJSON;
+
+    public static final String CSV_VALUE = "text/csv";
+
+    public static ProfessionalImportFormat fromContentType(MediaType contentType) {
+        return MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType) ? NDJSON : CSV;
+    }
+}
@@ -0,0 +1,71 @@
+package com.connectdeaf.domain.professional;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.util.UUID;
+
+// Atualizados a cada mudança de status: o ranking nunca agrega TB_APPOINTMENT
+@Entity
+@Table(name = "TB_PROFESSIONAL_STATS", indexes = @Index(name = "idx_professional_stats_ranking",
+        columnList = "finished_count DESC, professional_id"))
+@Getter
+@NoArgsConstructor
+public class ProfessionalStats implements Persistable<UUID> {
+    public static final String FINISHED = "FINISHED";
+    public static final String CANCELLED = "CANCELLED";
+    public static final String REJECTED = "REJECTED";
+
+    @Id
+    @Column(name = "professional_id")
+    private UUID professionalId;
+
+    @Column(name = "finished_count", nullable = false)
+    private long finishedCount;
+
+    @Column(name = "cancelled_count", nullable = false)
+    private long cancelledCount;
+
+    @Column(name = "rejected_count", nullable = false)
+    private long rejectedCount;
+
+    // O id vem do profissional: sem isso o save() faria um SELECT antes de cada INSERT
+    @Transient
+    private boolean isNew = true;
+
+    public ProfessionalStats(UUID professionalId, long finishedCount, long cancelledCount, long rejectedCount) {
+        this.professionalId = professionalId;
+        this.finishedCount = finishedCount;
+        this.cancelledCount = cancelledCount;
+        this.rejectedCount = rejectedCount;
+    }
+
+    @Override
+    public UUID getId() {
+        return professionalId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public static ProfessionalStats empty(UUID professionalId) {
+        return new ProfessionalStats(professionalId, 0, 0, 0);
+    }
+}
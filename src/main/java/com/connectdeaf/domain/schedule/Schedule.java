@@ -15,7 +15,8 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "TB_SCHEDULE")
+@Table(name = "TB_SCHEDULE", uniqueConstraints = @UniqueConstraint(
+        name = "uk_schedule_professional_slot", columnNames = { "professional_id", "date", "start_time" }))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,56 @@
+package com.connectdeaf.domain.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.connectdeaf.exceptions.InvalidCursorException;
+import com.connectdeaf.repositories.projections.ServiceProjection;
+
+// A ordenação vai no token: o cursor não pode ser reaproveitado em outra ordenação
+public record ServiceCursor(ServiceSort sort, String key, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static ServiceCursor of(ServiceSort sort, ServiceProjection row) {
+        String key = switch (sort) {
+            case NAME -> row.name();
+            case PRICE, PRICE_DESC -> String.valueOf(row.value());
+            case NEWEST -> row.createdAt().toString();
+        };
+        return new ServiceCursor(sort, key, row.id());
+    }
+
+    public String encode() {
+        // O nome pode conter o separador; fica por último para o split limitado
+        String raw = sort.parameter() + SEPARATOR + id + SEPARATOR + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ServiceCursor decode(String cursor, ServiceSort expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3 || !parts[0].equals(expectedSort.parameter())) {
+                throw new InvalidCursorException();
+            }
+            ServiceCursor decoded = new ServiceCursor(expectedSort, parts[2], UUID.fromString(parts[1]));
+            // Valida a chave já na decodificação
+            decoded.sortValue();
+            return decoded;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public Comparable<?> sortValue() {
+        return switch (sort) {
+            case NAME -> key;
+            case PRICE, PRICE_DESC -> Double.valueOf(key);
+            case NEWEST -> LocalDateTime.parse(key);
+        };
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.connectdeaf.domain.service;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import com.connectdeaf.domain.professional.Professional;
@@ -13,7 +14,11 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "TB_SERVICE")
+@Table(name = "TB_SERVICE", indexes = {
+        @Index(name = "idx_service_value_id", columnList = "value, id"),
+        @Index(name = "idx_service_name_id", columnList = "name, id"),
+        @Index(name = "idx_service_created_at_id", columnList = "created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -34,4 +39,18 @@ public class ServiceEntity {
     private String name;
 
     private String description;
-}
\ No newline at end of file
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public ServiceEntity(UUID id, Professional professional, Double value, String name, String description) {
+        this(id, professional, value, name, description, null);
+    }
+
+    @PrePersist
+    void fillCreatedAt() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.connectdeaf.domain.service;
+
+import java.util.Locale;
+
+import com.connectdeaf.exceptions.InvalidSortException;
+
+// Keyset sobre (coluna, id) com índice composto; as descendentes desempatam por id descendente
+public enum ServiceSort {
+    NAME("name"),
+    PRICE("price"),
+    PRICE_DESC("price_desc"),
+    NEWEST("newest");
+
+    private final String parameter;
+
+    ServiceSort(String parameter) {
+        this.parameter = parameter;
+    }
+
+    public String parameter() {
+        return parameter;
+    }
+
+    public boolean descending() {
+        return this == PRICE_DESC || this == NEWEST;
+    }
+
+    public static ServiceSort fromParameter(String parameter) {
+        if (parameter == null || parameter.isBlank()) {
+            return NAME;
+        }
+        String normalized = parameter.trim().toLowerCase(Locale.ROOT);
+        for (ServiceSort sort : values()) {
+            if (sort.parameter.equals(normalized)) {
+                return sort;
+            }
+        }
+        throw new InvalidSortException(parameter);
+    }
+}
@@ -2,9 +2,16 @@ package com.connectdeaf.domain.user;
 
 import jakarta.persistence.*;
 import lombok.Getter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 
+// Papéis são semeados por SQL e nunca alterados pela aplicação
 @Entity
 @Table(name = "TB_ROLES")
+@Immutable
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "roles")
 @Getter
 public class Role {
 
@@ -8,6 +8,8 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.Collections;
 import java.util.List;
@@ -18,7 +20,10 @@ import java.util.HashSet;
 
 
 @Entity
-@Table(name = "TB_USER")
+@Table(name = "TB_USER", indexes = @Index(name = "idx_user_name_id", columnList = "name, id"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_email", columnNames = "email"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Getter
 @Setter
 public class User {
@@ -27,20 +32,23 @@ public class User {
     private UUID id;
     private String name;
 
-    @Column(unique = true) 
     @Email
     private String email;
     private String password;
     private String phoneNumber;
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.REMOVE, orphanRemoval = true)
+    // Sem PERSIST o Hibernate não apaga no flush os endereços retirados da lista
+    @OneToMany(mappedBy = "user", cascade = {CascadeType.PERSIST, CascadeType.REMOVE}, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users.addresses")
     private List<Address> addresses = new ArrayList<>(); // Inicializa com uma lista vazia
 
     @OneToMany(mappedBy = "customer", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     @JsonManagedReference
     private List<Appointment> appointments = new ArrayList<>(); // Inicializa com uma lista vazia
 
-    @ManyToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    // Papéis vêm do RoleRegistry (entidades destacadas): sem cascata, só a tabela de junção é gravada
+    @ManyToMany(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users.roles")
     @JoinTable(name = "TB_USER_ROLES", joinColumns = @JoinColumn(name = "user_id"), inverseJoinColumns = @JoinColumn(name = "role_id"))
     private Set<Role> roles = new HashSet<>(); // Inicializa com um conjunto vazio
 
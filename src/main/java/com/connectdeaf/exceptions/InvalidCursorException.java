@@ -0,0 +1,7 @@
+package com.connectdeaf.exceptions;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException() {
+        super("Invalid pagination cursor.");
+    }
+}
@@ -0,0 +1,7 @@
+package com.connectdeaf.exceptions;
+
+public class InvalidDateRangeException extends RuntimeException {
+    public InvalidDateRangeException(int maxDays) {
+        super("Date range must start before it ends and span at most " + maxDays + " days.");
+    }
+}
@@ -0,0 +1,7 @@
+package com.connectdeaf.exceptions;
+
+public class InvalidPageException extends RuntimeException {
+    public InvalidPageException(int maxPage) {
+        super("Page must not exceed " + maxPage + ". Use the cursor of the previous page to go further.");
+    }
+}
@@ -0,0 +1,7 @@
+package com.connectdeaf.exceptions;
+
+public class InvalidPriceRangeException extends RuntimeException {
+    public InvalidPriceRangeException() {
+        super("Price range must be non-negative and minPrice must not exceed maxPrice.");
+    }
+}
@@ -0,0 +1,7 @@
+package com.connectdeaf.exceptions;
+
+public class InvalidScheduleException extends RuntimeException {
+    public InvalidScheduleException() {
+        super("Schedule start time must be before its end time.");
+    }
+}
@@ -0,0 +1,7 @@
+package com.connectdeaf.exceptions;
+
+public class InvalidSortException extends RuntimeException {
+    public InvalidSortException(String sort) {
+        super("Unsupported sort: " + sort + ". Use name, price, price_desc or newest.");
+    }
+}
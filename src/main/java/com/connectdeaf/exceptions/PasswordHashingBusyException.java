@@ -0,0 +1,7 @@
+package com.connectdeaf.exceptions;
+
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException() {
+        super("Too many password checks in progress. Try again shortly.");
+    }
+}
@@ -0,0 +1,7 @@
+package com.connectdeaf.exceptions;
+
+public class ScheduleConflictException extends RuntimeException {
+    public ScheduleConflictException() {
+        super("Schedule slot is not available.");
+    }
+}
@@ -1,11 +1,24 @@
 package com.connectdeaf.repositories;
 
 import com.connectdeaf.domain.address.Address;
+import com.connectdeaf.repositories.projections.AddressProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface AddressRepository extends JpaRepository<Address, UUID> {
+
+    @Query("""
+            select new com.connectdeaf.repositories.projections.AddressProjection(
+                a.user.id, a.street, a.city, a.state, a.cep)
+            from Address a
+            where a.user.id in :userIds
+            """)
+    List<AddressProjection> findProjectionsByUserIdIn(@Param("userIds") Collection<UUID> userIds);
 }
@@ -1,16 +1,108 @@
 package com.connectdeaf.repositories;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.connectdeaf.domain.appointment.Appointment;
+import com.connectdeaf.repositories.projections.AppointmentProjection;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface AppointmentRepository extends JpaRepository<Appointment, UUID> {
-    List<Appointment> findByProfessionalId(UUID professionalId);
+    String APPOINTMENT_SELECT = """
+            select new com.connectdeaf.repositories.projections.AppointmentProjection(
+                a.id, a.status,
+                c.id, c.name, c.email, c.phoneNumber,
+                a.professional.id,
+                s.id, s.name, s.description, s.value, s.professional.id,
+                sch.id, sch.professional.id, sch.date, sch.startTime, sch.endTime)
+            from Appointment a
+            join a.customer c
+            join a.service s
+            """;
+
+    String APPOINTMENT_PROJECTION = APPOINTMENT_SELECT + " left join a.schedule sch ";
+
+    // Keyset listings walk appointments in (date, startTime, id) order; those without a schedule come last, by id,
+    // and their cursor carries a null date and time.
+    String AFTER_CURSOR = """
+             ((:date is null and sch.id is null and a.id > :id)
+                or (:date is not null and (sch.id is null
+                    or sch.date > :date
+                    or (sch.date = :date and sch.startTime > :startTime)
+                    or (sch.date = :date and sch.startTime = :startTime and a.id > :id))))
+            """;
+
+    String KEYSET_ORDER = " order by sch.date nulls last, sch.startTime nulls last, a.id";
+
+    String STREAM_FETCH_SIZE = "500";
+
+    @Query(APPOINTMENT_PROJECTION)
+    List<AppointmentProjection> findAllProjections();
+
+    @Query(APPOINTMENT_PROJECTION + " where a.professional.id = :professionalId")
+    List<AppointmentProjection> findProjectionsByProfessionalId(@Param("professionalId") UUID professionalId);
+
+    @Query(APPOINTMENT_PROJECTION + " where c.id = :customerId")
+    List<AppointmentProjection> findProjectionsByCustomerId(@Param("customerId") UUID customerId);
+
+    @Query(APPOINTMENT_PROJECTION + KEYSET_ORDER)
+    List<AppointmentProjection> findFirstPage(Limit limit);
+
+    @Query(APPOINTMENT_PROJECTION + " where " + AFTER_CURSOR + KEYSET_ORDER)
+    List<AppointmentProjection> findPageAfter(@Param("date") LocalDate date, @Param("startTime") LocalTime startTime,
+                                              @Param("id") UUID id, Limit limit);
+
+    @Query(APPOINTMENT_PROJECTION + " where a.professional.id = :professionalId" + KEYSET_ORDER)
+    List<AppointmentProjection> findFirstPageByProfessionalId(@Param("professionalId") UUID professionalId,
+                                                              Limit limit);
+
+    @Query(APPOINTMENT_PROJECTION + " where a.professional.id = :professionalId and " + AFTER_CURSOR
+            + KEYSET_ORDER)
+    List<AppointmentProjection> findPageByProfessionalIdAfter(@Param("professionalId") UUID professionalId,
+                                                              @Param("date") LocalDate date,
+                                                              @Param("startTime") LocalTime startTime,
+                                                              @Param("id") UUID id, Limit limit);
+
+    @Query(APPOINTMENT_PROJECTION + " where c.id = :customerId" + KEYSET_ORDER)
+    List<AppointmentProjection> findFirstPageByCustomerId(@Param("customerId") UUID customerId, Limit limit);
+
+    @Query(APPOINTMENT_PROJECTION + " where c.id = :customerId and " + AFTER_CURSOR + KEYSET_ORDER)
+    List<AppointmentProjection> findPageByCustomerIdAfter(@Param("customerId") UUID customerId,
+                                                          @Param("date") LocalDate date,
+                                                          @Param("startTime") LocalTime startTime,
+                                                          @Param("id") UUID id, Limit limit);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(APPOINTMENT_PROJECTION + KEYSET_ORDER)
+    Stream<AppointmentProjection> streamAll();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(APPOINTMENT_PROJECTION + " where a.professional.id = :professionalId" + KEYSET_ORDER)
+    Stream<AppointmentProjection> streamByProfessionalId(@Param("professionalId") UUID professionalId);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(APPOINTMENT_PROJECTION + " where c.id = :customerId" + KEYSET_ORDER)
+    Stream<AppointmentProjection> streamByCustomerId(@Param("customerId") UUID customerId);
 
-    List<Appointment> findByCustomerId(UUID customerId);
-}
\ No newline at end of file
+    // O status anterior decide os contadores do ranking: duas transições iguais em paralelo não podem ler o mesmo
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Appointment a where a.id = :id")
+    Optional<Appointment> findByIdForUpdate(@Param("id") UUID id);
+}
@@ -2,12 +2,64 @@ package com.connectdeaf.repositories;
 
 import com.connectdeaf.domain.professional.Professional;
 import com.connectdeaf.domain.user.User;
+import com.connectdeaf.repositories.projections.ProfessionalProjection;
+import com.connectdeaf.repositories.projections.ProfessionalSummaryProjection;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface ProfessionalRepository extends JpaRepository<Professional, UUID> {
     Optional<Professional> findByUser(User user);
+
+    String PROFESSIONAL_PROJECTION = """
+            select new com.connectdeaf.repositories.projections.ProfessionalProjection(
+                p.id, u.id, u.name, u.email, u.phoneNumber, p.qualification, p.areaOfExpertise,
+                p.workStartTime, p.workEndTime, p.breakDuration)
+            from Professional p
+            join p.user u
+            """;
+
+    @Query(PROFESSIONAL_PROJECTION + "where p.id in :ids")
+    List<ProfessionalProjection> findProjectionsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query(PROFESSIONAL_PROJECTION + "where lower(p.areaOfExpertise) = lower(:areaOfExpertise)")
+    List<ProfessionalProjection> findProjectionsByAreaOfExpertise(@Param("areaOfExpertise") String areaOfExpertise);
+
+    @Query(PROFESSIONAL_PROJECTION + """
+            where lower(p.areaOfExpertise) = lower(:areaOfExpertise)
+              and exists (select a.id from Address a where a.user = u and a.cityNormalized = :city)
+            """)
+    List<ProfessionalProjection> findProjectionsByAreaOfExpertiseAndCity(
+            @Param("areaOfExpertise") String areaOfExpertise, @Param("city") String city);
+
+    // Cidade por subconsulta escalar: sem group by, o limite da página vale antes de agregar endereços
+    String PROFESSIONAL_SUMMARY = """
+            select new com.connectdeaf.repositories.projections.ProfessionalSummaryProjection(
+                p.id, u.name, p.areaOfExpertise,
+                (select min(a.city) from Address a where a.user = u))
+            from Professional p
+            join p.user u
+            where (:areaOfExpertise is null or lower(p.areaOfExpertise) = :areaOfExpertise)
+              and (:qualification is null or lower(p.qualification) = :qualification)
+            """;
+
+    String DIRECTORY_ORDER = " order by u.name, p.id";
+
+    @Query(PROFESSIONAL_SUMMARY + DIRECTORY_ORDER)
+    List<ProfessionalSummaryProjection> findDirectoryFirstPage(@Param("areaOfExpertise") String areaOfExpertise,
+                                                               @Param("qualification") String qualification,
+                                                               Limit limit);
+
+    @Query(PROFESSIONAL_SUMMARY + " and (u.name > :name or (u.name = :name and p.id > :id))" + DIRECTORY_ORDER)
+    List<ProfessionalSummaryProjection> findDirectoryPageAfter(@Param("areaOfExpertise") String areaOfExpertise,
+                                                               @Param("qualification") String qualification,
+                                                               @Param("name") String name, @Param("id") UUID id,
+                                                               Limit limit);
 }
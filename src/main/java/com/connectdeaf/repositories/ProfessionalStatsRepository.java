@@ -0,0 +1,63 @@
+package com.connectdeaf.repositories;
+
+import com.connectdeaf.domain.professional.ProfessionalStats;
+import com.connectdeaf.repositories.projections.ProfessionalRankingProjection;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ProfessionalStatsRepository extends JpaRepository<ProfessionalStats, UUID> {
+
+    // Incremento no próprio UPDATE: mudanças de status concorrentes não se sobrescrevem
+    @Modifying
+    @Query("""
+            update ProfessionalStats s
+            set s.finishedCount = s.finishedCount + :finished,
+                s.cancelledCount = s.cancelledCount + :cancelled,
+                s.rejectedCount = s.rejectedCount + :rejected
+            where s.professionalId = :professionalId
+            """)
+    int increment(@Param("professionalId") UUID professionalId, @Param("finished") long finished,
+                  @Param("cancelled") long cancelled, @Param("rejected") long rejected);
+
+    // Profissional sem linha de contadores (criado antes da V11): semeia como a carga da V11.
+    // Chamado antes de gravar a mudança de status, que o incremento aplica em seguida.
+    @Modifying
+    @Query(value = """
+            insert into tb_professional_stats (professional_id, finished_count, cancelled_count, rejected_count)
+            values (:professionalId,
+                    (select count(*) from tb_appointment where professional_id = :professionalId and status = 'FINISHED'),
+                    (select count(*) from tb_appointment where professional_id = :professionalId and status = 'CANCELLED'),
+                    (select count(*) from tb_appointment where professional_id = :professionalId and status = 'REJECTED'))
+            on conflict do nothing
+            """, nativeQuery = true)
+    int seedFromAppointments(@Param("professionalId") UUID professionalId);
+
+    // A ordem e o limite saem do índice da tabela de contadores; nome e área vêm por chave primária
+    String RANKING = """
+            select new com.connectdeaf.repositories.projections.ProfessionalRankingProjection(
+                s.professionalId, u.name, p.areaOfExpertise, s.finishedCount, s.cancelledCount, s.rejectedCount)
+            from ProfessionalStats s
+            join Professional p on p.id = s.professionalId
+            join p.user u
+            """;
+
+    String RANKING_ORDER = " order by s.finishedCount desc, s.professionalId";
+
+    @Query(RANKING + RANKING_ORDER)
+    List<ProfessionalRankingProjection> findRankingFirstPage(Limit limit);
+
+    @Query(RANKING + """
+            where s.finishedCount < :finishedCount
+               or (s.finishedCount = :finishedCount and s.professionalId > :id)
+            """ + RANKING_ORDER)
+    List<ProfessionalRankingProjection> findRankingPageAfter(@Param("finishedCount") long finishedCount,
+                                                             @Param("id") UUID id, Limit limit);
+}
@@ -1,10 +1,18 @@
 package com.connectdeaf.repositories;
 
 import com.connectdeaf.domain.user.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface RoleRepository extends JpaRepository<Role, Long> {
+    // Cadastros usam o RoleRegistry; consultas avulsas ficam no cache de consultas
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.roles")
+    })
     Role findByName(String name);
 }
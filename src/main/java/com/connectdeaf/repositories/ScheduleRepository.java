@@ -1,16 +1,42 @@
 package com.connectdeaf.repositories;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.connectdeaf.domain.schedule.Schedule;
+import com.connectdeaf.repositories.projections.ScheduleSlotProjection;
 
 @Repository
 public interface ScheduleRepository extends JpaRepository<Schedule, UUID> {
 
     List<Schedule> findByProfessionalIdAndDate(UUID professionalId, LocalDate date);
+
+    @Query("""
+            select new com.connectdeaf.repositories.projections.ScheduleSlotProjection(
+                s.professional.id, s.date, s.startTime, s.endTime)
+            from Schedule s
+            where s.professional.id in :professionalIds
+              and s.date between :from and :to
+            """)
+    List<ScheduleSlotProjection> findSlotsByProfessionalIdInAndDateBetween(
+            @Param("professionalIds") Collection<UUID> professionalIds, @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    @Query("""
+            select count(s) > 0 from Schedule s
+            where s.professional.id = :professionalId
+              and s.date = :date
+              and s.startTime < :endTime
+              and s.endTime > :startTime
+            """)
+    boolean existsOverlapping(@Param("professionalId") UUID professionalId, @Param("date") LocalDate date,
+                              @Param("startTime") LocalTime startTime, @Param("endTime") LocalTime endTime);
 }
@@ -0,0 +1,25 @@
+package com.connectdeaf.repositories;
+
+import java.util.List;
+
+import com.connectdeaf.domain.service.ServiceCursor;
+import com.connectdeaf.domain.service.ServiceSort;
+import com.connectdeaf.repositories.projections.FacetCount;
+import com.connectdeaf.repositories.projections.ServiceProjection;
+
+public interface ServiceCatalogRepository {
+
+    // Continua logo depois de after (keyset) quando informado; senão, a partir de offset
+    List<ServiceProjection> findCatalogPage(ServiceSearchCriteria criteria, ServiceSort sort, ServiceCursor after,
+                                            int offset, int limit);
+
+    long countCatalog(ServiceSearchCriteria criteria);
+
+    List<FacetCount> countByState(ServiceSearchCriteria criteria);
+
+    List<FacetCount> countByCity(ServiceSearchCriteria criteria);
+
+    List<FacetCount> countByAreaOfExpertise(ServiceSearchCriteria criteria);
+
+    List<FacetCount> countByPriceBand(ServiceSearchCriteria criteria);
+}
@@ -0,0 +1,242 @@
+package com.connectdeaf.repositories;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.UUID;
+
+import com.connectdeaf.domain.address.Address;
+import com.connectdeaf.domain.professional.Professional;
+import com.connectdeaf.domain.service.ServiceCursor;
+import com.connectdeaf.domain.service.ServiceEntity;
+import com.connectdeaf.domain.service.ServiceSort;
+import com.connectdeaf.domain.user.User;
+import com.connectdeaf.repositories.projections.FacetCount;
+import com.connectdeaf.repositories.projections.ServiceProjection;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.AbstractQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+class ServiceCatalogRepositoryImpl implements ServiceCatalogRepository {
+
+    // Limites superiores (exclusivos) das faixas de preço; a última faixa é aberta
+    private static final double[] PRICE_BAND_LIMITS = { 50, 100, 200 };
+
+    private final EntityManager entityManager;
+
+    ServiceCatalogRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<ServiceProjection> findCatalogPage(ServiceSearchCriteria criteria, ServiceSort sort,
+                                                   ServiceCursor after, int offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ServiceProjection> query = cb.createQuery(ServiceProjection.class);
+        Root<ServiceEntity> service = query.from(ServiceEntity.class);
+        Join<ServiceEntity, Professional> professional = service.join("professional");
+
+        List<Predicate> predicates = new ArrayList<>(List.of(matching(cb, query, service, professional, criteria)));
+        if (after != null) {
+            predicates.add(keysetAfter(cb, service, after));
+        }
+        Expression<?> sortColumn = sortColumn(service, sort);
+        Order byColumn = sort.descending() ? cb.desc(sortColumn) : cb.asc(sortColumn);
+        Order byId = sort.descending() ? cb.desc(service.get("id")) : cb.asc(service.get("id"));
+
+        query.select(cb.construct(ServiceProjection.class,
+                        service.get("id"), service.get("name"), service.get("description"), service.get("value"),
+                        professional.get("id"), service.get("createdAt")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(byColumn, byId);
+
+        return entityManager.createQuery(query)
+                .setFirstResult(after != null ? 0 : offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public long countCatalog(ServiceSearchCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<ServiceEntity> service = query.from(ServiceEntity.class);
+        Join<ServiceEntity, Professional> professional = service.join("professional");
+
+        query.select(cb.count(service)).where(matching(cb, query, service, professional, criteria));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public List<FacetCount> countByState(ServiceSearchCriteria criteria) {
+        return countByAddressField("stateNormalized", criteria.withoutState());
+    }
+
+    @Override
+    public List<FacetCount> countByCity(ServiceSearchCriteria criteria) {
+        return countByAddressField("cityNormalized", criteria.withoutCity());
+    }
+
+    @Override
+    public List<FacetCount> countByAreaOfExpertise(ServiceSearchCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<FacetCount> query = cb.createQuery(FacetCount.class);
+        Root<ServiceEntity> service = query.from(ServiceEntity.class);
+        Join<ServiceEntity, Professional> professional = service.join("professional");
+        Expression<String> area = professional.get("areaOfExpertise");
+        Expression<Long> count = cb.count(service);
+
+        query.select(cb.construct(FacetCount.class, area, count))
+                .where(matching(cb, query, service, professional, criteria.withoutAreaOfExpertise()))
+                .groupBy(area)
+                .orderBy(cb.desc(count), cb.asc(area));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    // Uma soma condicional por faixa numa única passada; como as outras facetas, ignora o próprio filtro
+    @Override
+    public List<FacetCount> countByPriceBand(ServiceSearchCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<ServiceEntity> service = query.from(ServiceEntity.class);
+        Join<ServiceEntity, Professional> professional = service.join("professional");
+        Expression<Double> value = service.get("value");
+
+        List<Expression<?>> sums = new ArrayList<>();
+        double lower = 0;
+        for (double upper : PRICE_BAND_LIMITS) {
+            sums.add(cb.sum(cb.<Long>selectCase()
+                    .when(cb.and(cb.ge(value, lower), cb.lt(value, upper)), 1L)
+                    .otherwise(0L)));
+            lower = upper;
+        }
+        sums.add(cb.sum(cb.<Long>selectCase().when(cb.ge(value, lower), 1L).otherwise(0L)));
+
+        query.multiselect(sums.toArray(Expression[]::new))
+                .where(matching(cb, query, service, professional, criteria.withoutPriceRange()));
+        Tuple totals = entityManager.createQuery(query).getSingleResult();
+
+        List<FacetCount> bands = new ArrayList<>();
+        for (int i = 0; i < sums.size(); i++) {
+            Number count = (Number) totals.get(i);
+            if (count != null && count.longValue() > 0) {
+                bands.add(new FacetCount(priceBandLabel(i), count.longValue()));
+            }
+        }
+        return bands;
+    }
+
+    private List<FacetCount> countByAddressField(String field, ServiceSearchCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<FacetCount> query = cb.createQuery(FacetCount.class);
+        Root<ServiceEntity> service = query.from(ServiceEntity.class);
+        Join<ServiceEntity, Professional> professional = service.join("professional");
+        Join<User, Address> address = professional.<Professional, User>join("user").join("addresses");
+        Expression<String> key = address.get(field);
+        // Distinct: um profissional com dois endereços na mesma cidade conta o serviço uma vez
+        Expression<Long> count = cb.countDistinct(service);
+
+        query.select(cb.construct(FacetCount.class, key, count))
+                .where(matching(cb, query, service, professional, criteria))
+                .groupBy(key)
+                .orderBy(cb.desc(count), cb.asc(key));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private Predicate[] matching(CriteriaBuilder cb, AbstractQuery<?> query, Root<ServiceEntity> service,
+                                 Join<ServiceEntity, Professional> professional, ServiceSearchCriteria criteria) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (criteria.name() != null) {
+            predicates.add(cb.like(cb.lower(service.get("name")),
+                    "%" + escapeLike(criteria.name().toLowerCase(Locale.ROOT)) + "%", '\\'));
+        }
+        if (criteria.areaOfExpertise() != null) {
+            predicates.add(cb.equal(cb.lower(professional.get("areaOfExpertise")),
+                    criteria.areaOfExpertise().toLowerCase(Locale.ROOT)));
+        }
+        if (criteria.minPrice() != null) {
+            predicates.add(cb.ge(service.get("value"), criteria.minPrice()));
+        }
+        if (criteria.maxPrice() != null) {
+            predicates.add(cb.le(service.get("value"), criteria.maxPrice()));
+        }
+        if (criteria.city() != null || criteria.state() != null) {
+            predicates.add(locatedIn(cb, query, professional, criteria));
+        }
+        return predicates.toArray(Predicate[]::new);
+    }
+
+    // EXISTS nas colunas normalizadas: usa os índices de TB_ADDRESS e vários endereços não duplicam linhas
+    private Predicate locatedIn(CriteriaBuilder cb, AbstractQuery<?> query,
+                                Join<ServiceEntity, Professional> professional, ServiceSearchCriteria criteria) {
+        Subquery<Address> addresses = query.subquery(Address.class);
+        Root<Address> address = addresses.from(Address.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(address.get("user"), professional.get("user")));
+        if (criteria.city() != null) {
+            predicates.add(cb.equal(address.get("cityNormalized"), criteria.city()));
+        }
+        if (criteria.state() != null) {
+            predicates.add(cb.equal(address.get("stateNormalized"), criteria.state()));
+        }
+        addresses.select(address).where(predicates.toArray(Predicate[]::new));
+        return cb.exists(addresses);
+    }
+
+    private static Expression<?> sortColumn(Root<ServiceEntity> service, ServiceSort sort) {
+        return switch (sort) {
+            case NAME -> service.get("name");
+            case PRICE, PRICE_DESC -> service.get("value");
+            case NEWEST -> service.get("createdAt");
+        };
+    }
+
+    // column > k OR (column = k AND id > i), na forma que casa com o índice (column, id)
+    private static Predicate keysetAfter(CriteriaBuilder cb, Root<ServiceEntity> service, ServiceCursor after) {
+        return switch (after.sort()) {
+            case NAME -> keysetAfter(cb, service.get("name"), (String) after.sortValue(), service, after.id(), false);
+            case PRICE -> keysetAfter(cb, service.get("value"), (Double) after.sortValue(), service, after.id(), false);
+            case PRICE_DESC -> keysetAfter(cb, service.get("value"), (Double) after.sortValue(), service, after.id(),
+                    true);
+            case NEWEST -> keysetAfter(cb, service.get("createdAt"), (LocalDateTime) after.sortValue(), service,
+                    after.id(), true);
+        };
+    }
+
+    private static <T extends Comparable<? super T>> Predicate keysetAfter(CriteriaBuilder cb, Expression<T> column,
+                                                                          T key, Root<ServiceEntity> service,
+                                                                          UUID id, boolean descending) {
+        Expression<UUID> serviceId = service.get("id");
+        if (descending) {
+            return cb.or(cb.lessThan(column, key), cb.and(cb.equal(column, key), cb.lessThan(serviceId, id)));
+        }
+        return cb.or(cb.greaterThan(column, key), cb.and(cb.equal(column, key), cb.greaterThan(serviceId, id)));
+    }
+
+    private static String priceBandLabel(int band) {
+        if (band == PRICE_BAND_LIMITS.length) {
+            return formatPrice(PRICE_BAND_LIMITS[band - 1]) + "+";
+        }
+        double lower = band == 0 ? 0 : PRICE_BAND_LIMITS[band - 1];
+        return formatPrice(lower) + "-" + formatPrice(PRICE_BAND_LIMITS[band]);
+    }
+
+    private static String formatPrice(double price) {
+        return price == Math.rint(price) ? String.valueOf((long) price) : String.valueOf(price);
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
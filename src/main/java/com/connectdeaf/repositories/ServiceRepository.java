@@ -2,17 +2,23 @@ package com.connectdeaf.repositories;
 
 import com.connectdeaf.domain.professional.Professional;
 import com.connectdeaf.domain.service.ServiceEntity;
+import com.connectdeaf.repositories.projections.ServiceNameProjection;
+import com.connectdeaf.repositories.projections.ServiceProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.lang.NonNull;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface ServiceRepository extends JpaRepository<ServiceEntity, UUID>, JpaSpecificationExecutor<ServiceEntity> {
+public interface ServiceRepository extends JpaRepository<ServiceEntity, UUID>, JpaSpecificationExecutor<ServiceEntity>,
+        ServiceSearchRepository, ServiceCatalogRepository {
     
     @NonNull
     Optional<ServiceEntity> findById(@NonNull UUID id);
@@ -20,4 +26,30 @@ public interface ServiceRepository extends JpaRepository<ServiceEntity, UUID>, J
     Optional<ServiceEntity> findByName(String name);
 
     List<ServiceEntity> findByProfessional(Professional professional);
+
+    String SERVICE_PROJECTION = """
+            select new com.connectdeaf.repositories.projections.ServiceProjection(
+                s.id, s.name, s.description, s.value, s.professional.id, s.createdAt)
+            from ServiceEntity s
+            """;
+
+    @Query(SERVICE_PROJECTION + "where s.id in :ids")
+    List<ServiceProjection> findProjectionsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query(SERVICE_PROJECTION + "order by s.name, s.id")
+    List<ServiceProjection> findAllProjections();
+
+    @Query(SERVICE_PROJECTION + "where s.professional.id = :professionalId order by s.name, s.id")
+    List<ServiceProjection> findProjectionsByProfessionalId(@Param("professionalId") UUID professionalId);
+
+    String SERVICE_NAME_PROJECTION = """
+            select new com.connectdeaf.repositories.projections.ServiceNameProjection(s.id, s.name)
+            from ServiceEntity s
+            """;
+
+    @Query(SERVICE_NAME_PROJECTION)
+    List<ServiceNameProjection> findAllNames();
+
+    @Query(SERVICE_NAME_PROJECTION + "where s.id in :ids")
+    List<ServiceNameProjection> findNamesByIdIn(@Param("ids") Collection<UUID> ids);
 }
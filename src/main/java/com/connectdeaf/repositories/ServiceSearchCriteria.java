@@ -0,0 +1,45 @@
+package com.connectdeaf.repositories;
+
+import com.connectdeaf.domain.address.Address;
+import com.connectdeaf.exceptions.InvalidPriceRangeException;
+
+// Valores em branco não filtram; cidade e estado normalizados como em Address.normalize
+public record ServiceSearchCriteria(
+        String name,
+        String city,
+        String state,
+        String areaOfExpertise,
+        Double minPrice,
+        Double maxPrice
+) {
+    public ServiceSearchCriteria {
+        name = blankToNull(name);
+        city = Address.normalize(blankToNull(city));
+        state = Address.normalize(blankToNull(state));
+        areaOfExpertise = blankToNull(areaOfExpertise);
+        if ((minPrice != null && minPrice < 0) || (maxPrice != null && maxPrice < 0)
+                || (minPrice != null && maxPrice != null && minPrice > maxPrice)) {
+            throw new InvalidPriceRangeException();
+        }
+    }
+
+    public ServiceSearchCriteria withoutCity() {
+        return new ServiceSearchCriteria(name, null, state, areaOfExpertise, minPrice, maxPrice);
+    }
+
+    public ServiceSearchCriteria withoutState() {
+        return new ServiceSearchCriteria(name, city, null, areaOfExpertise, minPrice, maxPrice);
+    }
+
+    public ServiceSearchCriteria withoutAreaOfExpertise() {
+        return new ServiceSearchCriteria(name, city, state, null, minPrice, maxPrice);
+    }
+
+    public ServiceSearchCriteria withoutPriceRange() {
+        return new ServiceSearchCriteria(name, city, state, areaOfExpertise, null, null);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
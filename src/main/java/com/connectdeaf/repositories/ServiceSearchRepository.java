@@ -0,0 +1,9 @@
+package com.connectdeaf.repositories;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ServiceSearchRepository {
+
+    List<UUID> searchIdsByRelevance(String query, int limit);
+}
@@ -0,0 +1,82 @@
+package com.connectdeaf.repositories;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+// No Postgres usa os índices GIN da V7: as expressões abaixo devem ser idênticas às indexadas.
+// Nos outros bancos (H2 nos testes), busca cada termo como substring, sem distinção de maiúsculas
+class ServiceSearchRepositoryImpl implements ServiceSearchRepository {
+
+    private static final String POSTGRES_SEARCH = """
+            select s.id
+            from tb_service s
+            where to_tsvector('portuguese'::regconfig, coalesce(s.name, '') || ' ' || coalesce(s.description, ''))
+                    @@ websearch_to_tsquery('portuguese'::regconfig, :query)
+               or :query <% s.name
+            order by ts_rank(
+                        to_tsvector('portuguese'::regconfig, coalesce(s.name, '') || ' ' || coalesce(s.description, '')),
+                        websearch_to_tsquery('portuguese'::regconfig, :query))
+                     + word_similarity(:query, s.name) desc,
+                     s.name, s.id
+            limit :limit
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    ServiceSearchRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<UUID> searchIdsByRelevance(String query, int limit) {
+        if (isPostgres()) {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("query", query)
+                    .addValue("limit", limit);
+            return jdbcTemplate.queryForList(POSTGRES_SEARCH, params, UUID.class);
+        }
+        return searchByTerms(query, limit);
+    }
+
+    private List<UUID> searchByTerms(String query, int limit) {
+        List<String> terms = Arrays.stream(query.toLowerCase(Locale.ROOT).split("\\s+"))
+                .filter(term -> !term.isEmpty())
+                .toList();
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+        List<String> matches = new ArrayList<>();
+        List<String> nameScores = new ArrayList<>();
+        for (int i = 0; i < terms.size(); i++) {
+            params.addValue("term" + i, "%" + escapeLike(terms.get(i)) + "%");
+            matches.add("(lower(s.name) like :term" + i + " escape '\\' or lower(s.description) like :term" + i
+                    + " escape '\\')");
+            nameScores.add("case when lower(s.name) like :term" + i + " escape '\\' then 1 else 0 end");
+        }
+        String sql = "select s.id from tb_service s where " + String.join(" and ", matches)
+                + " order by " + String.join(" + ", nameScores) + " desc, s.name, s.id limit :limit";
+        return jdbcTemplate.queryForList(sql, params, UUID.class);
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+        }
+        return postgres;
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
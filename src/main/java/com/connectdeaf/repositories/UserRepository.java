@@ -1,13 +1,37 @@
 package com.connectdeaf.repositories;
 
 import com.connectdeaf.domain.user.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
-    List<User> findByEmail(String email);
+    // Os papéis entram no mesmo SELECT: o login monta as claims sem outra consulta.
+    // lower(email) usa o índice único idx_user_email_lower
+    @EntityGraph(attributePaths = "roles")
+    @Query("select u from User u where lower(u.email) = lower(:email)")
+    List<User> findByEmail(@Param("email") String email);
+
+    // Recebe e devolve e-mails já em minúsculas (RegisteredEmailFilter.normalize)
+    @Query("select lower(u.email) from User u where lower(u.email) in :emails")
+    List<String> findEmailsIn(@Param("emails") Collection<String> emails);
+
+    @Query("select u.email from User u where u.id = :id")
+    Optional<String> findEmailById(@Param("id") UUID id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select u.email from User u where u.email is not null")
+    Stream<String> streamAllEmails();
 }
@@ -0,0 +1,12 @@
+package com.connectdeaf.repositories.projections;
+
+import java.util.UUID;
+
+public record AddressProjection(
+        UUID userId,
+        String street,
+        String city,
+        String state,
+        String cep
+) {
+}
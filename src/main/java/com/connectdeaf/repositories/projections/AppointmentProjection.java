@@ -0,0 +1,26 @@
+package com.connectdeaf.repositories.projections;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+public record AppointmentProjection(
+        UUID id,
+        String status,
+        UUID customerId,
+        String customerName,
+        String customerEmail,
+        String customerPhoneNumber,
+        UUID professionalId,
+        UUID serviceId,
+        String serviceName,
+        String serviceDescription,
+        Double serviceValue,
+        UUID serviceProfessionalId,
+        UUID scheduleId,
+        UUID scheduleProfessionalId,
+        LocalDate scheduleDate,
+        LocalTime scheduleStartTime,
+        LocalTime scheduleEndTime
+) {
+}
@@ -0,0 +1,7 @@
+package com.connectdeaf.repositories.projections;
+
+public record FacetCount(
+        String value,
+        Long count
+) {
+}
@@ -0,0 +1,19 @@
+package com.connectdeaf.repositories.projections;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.UUID;
+
+public record ProfessionalProjection(
+        UUID id,
+        UUID userId,
+        String name,
+        String email,
+        String phoneNumber,
+        String qualification,
+        String areaOfExpertise,
+        LocalTime workStartTime,
+        LocalTime workEndTime,
+        Duration breakDuration
+) {
+}
@@ -0,0 +1,13 @@
+package com.connectdeaf.repositories.projections;
+
+import java.util.UUID;
+
+public record ProfessionalRankingProjection(
+        UUID id,
+        String name,
+        String areaOfExpertise,
+        long finishedCount,
+        long cancelledCount,
+        long rejectedCount
+) {
+}
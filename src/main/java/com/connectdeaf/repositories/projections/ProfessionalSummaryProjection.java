@@ -0,0 +1,11 @@
+package com.connectdeaf.repositories.projections;
+
+import java.util.UUID;
+
+public record ProfessionalSummaryProjection(
+        UUID id,
+        String name,
+        String areaOfExpertise,
+        String city
+) {
+}
@@ -0,0 +1,13 @@
+package com.connectdeaf.repositories.projections;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+public record ScheduleSlotProjection(
+        UUID professionalId,
+        LocalDate date,
+        LocalTime startTime,
+        LocalTime endTime
+) {
+}
@@ -0,0 +1,9 @@
+package com.connectdeaf.repositories.projections;
+
+import java.util.UUID;
+
+public record ServiceNameProjection(
+        UUID id,
+        String name
+) {
+}
@@ -0,0 +1,14 @@
+package com.connectdeaf.repositories.projections;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ServiceProjection(
+        UUID id,
+        String name,
+        String description,
+        Double value,
+        UUID professionalId,
+        LocalDateTime createdAt
+) {
+}
@@ -1,11 +1,23 @@
 package com.connectdeaf.services;
 
+import com.connectdeaf.controllers.dtos.requests.AddressRequestDTO;
 import com.connectdeaf.domain.address.Address;
+import com.connectdeaf.domain.user.User;
 import com.connectdeaf.repositories.AddressRepository;
 
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @Service
 public class AddressService {
 
@@ -19,4 +31,62 @@ public class AddressService {
     public void saveAddress(Address newAddress) {
         addressRepository.save(newAddress);
     }
+
+    // Endereços iguais ficam como estão, os demais são reescritos no lugar e só a diferença é inserida ou apagada
+    @Transactional
+    public void syncAddresses(User user, List<AddressRequestDTO> requests) {
+        List<Address> current = user.getAddresses();
+
+        // Endereços iguais ao pedido (campo a campo) não geram escrita
+        Map<AddressRequestDTO, Deque<Address>> byContent = new HashMap<>();
+        for (Address address : current) {
+            byContent.computeIfAbsent(toRequest(address), key -> new ArrayDeque<>()).add(address);
+        }
+        Set<Address> unchanged = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<AddressRequestDTO> pending = new ArrayList<>();
+        for (AddressRequestDTO request : requests) {
+            Deque<Address> same = byContent.get(request);
+            if (same != null && !same.isEmpty()) {
+                unchanged.add(same.poll());
+            } else {
+                pending.add(request);
+            }
+        }
+        List<Address> leftover = current.stream().filter(address -> !unchanged.contains(address)).toList();
+
+        // Reaproveita as linhas que sobraram: um UPDATE em vez de DELETE + INSERT
+        int reused = Math.min(pending.size(), leftover.size());
+        for (int i = 0; i < reused; i++) {
+            copy(pending.get(i), leftover.get(i));
+        }
+        for (AddressRequestDTO request : pending.subList(reused, pending.size())) {
+            Address address = buildAddress(request, user);
+            addressRepository.save(address);
+            current.add(address);
+        }
+        // orphanRemoval apaga as linhas retiradas da coleção
+        current.removeAll(leftover.subList(reused, leftover.size()));
+    }
+
+    public static Address buildAddress(AddressRequestDTO request, User user) {
+        Address address = new Address();
+        copy(request, address);
+        address.setUser(user);
+        return address;
+    }
+
+    private static void copy(AddressRequestDTO request, Address address) {
+        address.setCep(request.cep());
+        address.setStreet(request.street());
+        address.setNumber(request.number());
+        address.setComplement(request.complement());
+        address.setNeighborhood(request.neighborhood());
+        address.setCity(request.city());
+        address.setState(request.state());
+    }
+
+    private static AddressRequestDTO toRequest(Address address) {
+        return new AddressRequestDTO(address.getCep(), address.getStreet(), address.getNumber(),
+                address.getComplement(), address.getNeighborhood(), address.getCity(), address.getState());
+    }
 }
@@ -0,0 +1,92 @@
+package com.connectdeaf.services;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.connectdeaf.controllers.dtos.response.*;
+import com.connectdeaf.repositories.projections.AppointmentProjection;
+import com.connectdeaf.repositories.projections.ProfessionalProjection;
+
+@Service
+public class AppointmentResponseAssembler {
+
+    private final ProfessionalResponseAssembler professionalResponseAssembler;
+
+    public AppointmentResponseAssembler(ProfessionalResponseAssembler professionalResponseAssembler) {
+        this.professionalResponseAssembler = professionalResponseAssembler;
+    }
+
+    public List<AppointmentResponseDTO> toResponseDTOs(List<AppointmentProjection> appointments) {
+        if (appointments.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Set<UUID> professionalIds = new HashSet<>();
+        for (AppointmentProjection appointment : appointments) {
+            professionalIds.add(appointment.professionalId());
+            professionalIds.add(appointment.serviceProfessionalId());
+        }
+
+        Map<UUID, ProfessionalProjection> professionals = professionalResponseAssembler
+                .findProjections(professionalIds);
+
+        Set<UUID> userIds = new HashSet<>();
+        appointments.forEach(appointment -> userIds.add(appointment.customerId()));
+        professionals.values().forEach(professional -> userIds.add(professional.userId()));
+
+        // Clientes e profissionais numa única consulta de endereços
+        Map<UUID, List<AddressResponseDTO>> addressesByUser = professionalResponseAssembler
+                .findAddressesByUser(userIds);
+        Map<UUID, ProfessionalResponseDTO> professionalDTOs = professionalResponseAssembler
+                .toResponseDTOs(professionals, addressesByUser);
+
+        return appointments.stream()
+                .map(appointment -> new AppointmentResponseDTO(
+                        appointment.id(),
+                        mapToUserResponseDTO(appointment, addressesByUser),
+                        professionalDTOs.get(appointment.professionalId()),
+                        mapToServiceResponseDTO(appointment, professionalDTOs),
+                        mapToScheduleResponseDTO(appointment),
+                        appointment.status()))
+                .collect(Collectors.toList());
+    }
+
+    private UserResponseDTO mapToUserResponseDTO(AppointmentProjection appointment,
+                                                 Map<UUID, List<AddressResponseDTO>> addressesByUser) {
+        return new UserResponseDTO(
+                appointment.customerId(),
+                appointment.customerName(),
+                appointment.customerEmail(),
+                appointment.customerPhoneNumber(),
+                addressesByUser.getOrDefault(appointment.customerId(), Collections.emptyList()));
+    }
+
+    private ServiceResponseDTO mapToServiceResponseDTO(AppointmentProjection appointment,
+                                                       Map<UUID, ProfessionalResponseDTO> professionalDTOs) {
+        return new ServiceResponseDTO(
+                appointment.serviceId(),
+                appointment.serviceName(),
+                appointment.serviceDescription(),
+                appointment.serviceValue(),
+                professionalDTOs.get(appointment.serviceProfessionalId()));
+    }
+
+    private ScheduleResponseDTO mapToScheduleResponseDTO(AppointmentProjection appointment) {
+        if (appointment.scheduleId() == null) {
+            return null;
+        }
+        return new ScheduleResponseDTO(
+                appointment.scheduleId(),
+                appointment.scheduleProfessionalId(),
+                appointment.scheduleDate(),
+                appointment.scheduleStartTime(),
+                appointment.scheduleEndTime());
+    }
+}
@@ -2,77 +2,63 @@ package com.connectdeaf.services;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import com.connectdeaf.controllers.dtos.requests.AppointmentRequestDTO;
 import com.connectdeaf.controllers.dtos.response.*;
 import com.connectdeaf.domain.appointment.Appointment;
+import com.connectdeaf.domain.appointment.AppointmentCursor;
 import com.connectdeaf.domain.professional.Professional;
 import com.connectdeaf.domain.schedule.Schedule;
 import com.connectdeaf.domain.service.ServiceEntity;
 import com.connectdeaf.domain.user.User;
 import com.connectdeaf.exceptions.*;
 import com.connectdeaf.repositories.*;
+import com.connectdeaf.repositories.projections.AppointmentProjection;
 
 import jakarta.transaction.Transactional;
 
 @Service
 public class AppointmentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int STREAM_BATCH_SIZE = 500;
+
     private final AppointmentRepository appointmentRepository;
     private final UserRepository userRepository;
     private final ProfessionalRepository professionalRepository;
     private final ServiceRepository serviceRepository;
-    private final ScheduleRepository scheduleRepository;
+    private final AppointmentResponseAssembler appointmentResponseAssembler;
+    private final ScheduleBookingService scheduleBookingService;
+    private final ProfessionalRankingService professionalRankingService;
 
     public AppointmentService(AppointmentRepository appointmentRepository, UserRepository userRepository,
                               ProfessionalRepository professionalRepository, ServiceRepository serviceRepository,
-                              ScheduleRepository scheduleRepository) {
+                              AppointmentResponseAssembler appointmentResponseAssembler,
+                              ScheduleBookingService scheduleBookingService,
+                              ProfessionalRankingService professionalRankingService) {
         this.appointmentRepository = appointmentRepository;
         this.userRepository = userRepository;
         this.professionalRepository = professionalRepository;
         this.serviceRepository = serviceRepository;
-        this.scheduleRepository = scheduleRepository;
+        this.appointmentResponseAssembler = appointmentResponseAssembler;
+        this.scheduleBookingService = scheduleBookingService;
+        this.professionalRankingService = professionalRankingService;
     }
 
-    @Transactional
+    // Sem @Transactional: a transação é aberta pelo ScheduleBookingService enquanto segura o lock do profissional
     public AppointmentResponseDTO createAppointment(AppointmentRequestDTO appointmentRequestDTO) {
-        User customer = userRepository.findById(appointmentRequestDTO.customerId())
-                .orElseThrow(UserNotFoundException::new);
-
-        Professional professional = professionalRepository.findById(appointmentRequestDTO.professionalId())
-                .orElseThrow(ProfessionalNotFoundException::new);
-
-        ServiceEntity service = serviceRepository.findById(appointmentRequestDTO.serviceId())
-                .orElseThrow(ServiceNotFoundException::new);
-
-        LocalDate date = appointmentRequestDTO.date();
-        LocalTime startTime = appointmentRequestDTO.startTime();
-        LocalTime endTime = appointmentRequestDTO.endTime();
-
-        Schedule schedule = new Schedule(null, professional, date, startTime, endTime);
-        scheduleRepository.save(schedule);
-
-        Appointment appointment = new Appointment();
-        appointment.setCustomer(customer);
-        appointment.setProfessional(professional);
-        appointment.setService(service);
-        appointment.setSchedule(schedule);
-        appointment.setStatus("PENDING");
-
-        Appointment savedAppointment = appointmentRepository.save(appointment);
-
-        return new AppointmentResponseDTO(
-                savedAppointment.getId(),
-                mapToUserResponseDTO(savedAppointment.getCustomer()),
-                mapToProfessionalResponseDTO(savedAppointment.getProfessional()),
-                mapToServiceResponseDTO(savedAppointment.getService()),
-                mapToScheduleResponseDTO(savedAppointment.getSchedule()),
-                savedAppointment.getStatus());
+        return scheduleBookingService.book(appointmentRequestDTO.professionalId(), appointmentRequestDTO.date(),
+                appointmentRequestDTO.startTime(), appointmentRequestDTO.endTime(),
+                () -> bookAppointment(appointmentRequestDTO));
     }
 
     @Transactional
@@ -93,32 +79,28 @@ public class AppointmentService {
 
     @Transactional
     public List<AppointmentResponseDTO> findAllAppointments() {
-        return appointmentRepository.findAll().stream()
-                .map(appointment -> {
-                    Schedule schedule = appointment.getSchedule();
-                    return new AppointmentResponseDTO(
-                            appointment.getId(),
-                            mapToUserResponseDTO(appointment.getCustomer()),
-                            mapToProfessionalResponseDTO(appointment.getProfessional()),
-                            mapToServiceResponseDTO(appointment.getService()),
-                            mapToScheduleResponseDTO(schedule),
-                            appointment.getStatus());
-                })
-                .collect(Collectors.toList());
+        return appointmentResponseAssembler.toResponseDTOs(appointmentRepository.findAllProjections());
     }
 
     @Transactional
     public void deleteAppointment(UUID appointmentId) {
-        Appointment appointment = appointmentRepository.findById(appointmentId)
+        Appointment appointment = appointmentRepository.findByIdForUpdate(appointmentId)
                 .orElseThrow(AppointmentNotFoundException::new);
+        professionalRankingService.recordStatusChange(appointment.getProfessional().getId(),
+                appointment.getStatus(), null);
         appointmentRepository.delete(appointment);
+        if (appointment.getSchedule() != null) {
+            scheduleBookingService.releaseSlot(appointment.getSchedule());
+        }
     }
 
     @Transactional
     public AppointmentResponseDTO updateStatus(UUID appointmentId, String status) {
-        Appointment appointment = appointmentRepository.findById(appointmentId)
+        Appointment appointment = appointmentRepository.findByIdForUpdate(appointmentId)
                 .orElseThrow(AppointmentNotFoundException::new);
 
+        professionalRankingService.recordStatusChange(appointment.getProfessional().getId(),
+                appointment.getStatus(), status);
         appointment.setStatus(status);
         Appointment savedAppointment = appointmentRepository.save(appointment);
 
@@ -135,28 +117,131 @@ public class AppointmentService {
 
     @Transactional
     public List<AppointmentResponseDTO> findAppointmentsByProfessional(UUID professionalId) {
-        return appointmentRepository.findByProfessionalId(professionalId).stream()
-                .map(appointment -> new AppointmentResponseDTO(
-                        appointment.getId(),
-                        mapToUserResponseDTO(appointment.getCustomer()),
-                        mapToProfessionalResponseDTO(appointment.getProfessional()),
-                        mapToServiceResponseDTO(appointment.getService()),
-                        mapToScheduleResponseDTO(appointment.getSchedule()),
-                        appointment.getStatus()))
-                .collect(Collectors.toList());
+        return appointmentResponseAssembler.toResponseDTOs(
+                appointmentRepository.findProjectionsByProfessionalId(professionalId));
     }
 
     @Transactional
     public List<AppointmentResponseDTO> findAppointmentsByCustomer(UUID customerId) {
-        return appointmentRepository.findByCustomerId(customerId).stream()
-                .map(appointment -> new AppointmentResponseDTO(
-                        appointment.getId(),
-                        mapToUserResponseDTO(appointment.getCustomer()),
-                        mapToProfessionalResponseDTO(appointment.getProfessional()),
-                        mapToServiceResponseDTO(appointment.getService()),
-                        mapToScheduleResponseDTO(appointment.getSchedule()),
-                        appointment.getStatus()))
-                .collect(Collectors.toList());
+        return appointmentResponseAssembler.toResponseDTOs(
+                appointmentRepository.findProjectionsByCustomerId(customerId));
+    }
+
+    @Transactional
+    public AppointmentPageResponseDTO findAppointmentsPage(String cursor, int size) {
+        Limit limit = pageLimit(size);
+        if (cursor == null) {
+            return toPage(appointmentRepository.findFirstPage(limit), limit);
+        }
+        AppointmentCursor after = AppointmentCursor.decode(cursor);
+        return toPage(appointmentRepository.findPageAfter(after.date(), after.startTime(), after.id(), limit), limit);
+    }
+
+    @Transactional
+    public AppointmentPageResponseDTO findAppointmentsPageByProfessional(UUID professionalId, String cursor,
+                                                                         int size) {
+        Limit limit = pageLimit(size);
+        if (cursor == null) {
+            return toPage(appointmentRepository.findFirstPageByProfessionalId(professionalId, limit), limit);
+        }
+        AppointmentCursor after = AppointmentCursor.decode(cursor);
+        return toPage(appointmentRepository.findPageByProfessionalIdAfter(professionalId, after.date(),
+                after.startTime(), after.id(), limit), limit);
+    }
+
+    @Transactional
+    public AppointmentPageResponseDTO findAppointmentsPageByCustomer(UUID customerId, String cursor, int size) {
+        Limit limit = pageLimit(size);
+        if (cursor == null) {
+            return toPage(appointmentRepository.findFirstPageByCustomerId(customerId, limit), limit);
+        }
+        AppointmentCursor after = AppointmentCursor.decode(cursor);
+        return toPage(appointmentRepository.findPageByCustomerIdAfter(customerId, after.date(), after.startTime(),
+                after.id(), limit), limit);
+    }
+
+    @Transactional
+    public void streamAllAppointments(Consumer<AppointmentResponseDTO> consumer) {
+        try (Stream<AppointmentProjection> rows = appointmentRepository.streamAll()) {
+            streamInBatches(rows, consumer);
+        }
+    }
+
+    @Transactional
+    public void streamAppointmentsByProfessional(UUID professionalId, Consumer<AppointmentResponseDTO> consumer) {
+        try (Stream<AppointmentProjection> rows = appointmentRepository.streamByProfessionalId(professionalId)) {
+            streamInBatches(rows, consumer);
+        }
+    }
+
+    @Transactional
+    public void streamAppointmentsByCustomer(UUID customerId, Consumer<AppointmentResponseDTO> consumer) {
+        try (Stream<AppointmentProjection> rows = appointmentRepository.streamByCustomerId(customerId)) {
+            streamInBatches(rows, consumer);
+        }
+    }
+
+    private Limit pageLimit(int size) {
+        // Busca um registro a mais para saber se existe próxima página
+        return Limit.of(Math.min(Math.max(size, 1), MAX_PAGE_SIZE) + 1);
+    }
+
+    private AppointmentPageResponseDTO toPage(List<AppointmentProjection> rows, Limit limit) {
+        int pageSize = limit.max() - 1;
+        if (rows.size() <= pageSize) {
+            return new AppointmentPageResponseDTO(appointmentResponseAssembler.toResponseDTOs(rows), null);
+        }
+
+        List<AppointmentProjection> page = rows.subList(0, pageSize);
+        AppointmentProjection last = page.get(pageSize - 1);
+        String nextCursor = new AppointmentCursor(last.scheduleDate(), last.scheduleStartTime(), last.id()).encode();
+        return new AppointmentPageResponseDTO(appointmentResponseAssembler.toResponseDTOs(page), nextCursor);
+    }
+
+    private void streamInBatches(Stream<AppointmentProjection> rows, Consumer<AppointmentResponseDTO> consumer) {
+        List<AppointmentProjection> batch = new ArrayList<>(STREAM_BATCH_SIZE);
+        rows.forEach(row -> {
+            batch.add(row);
+            if (batch.size() == STREAM_BATCH_SIZE) {
+                appointmentResponseAssembler.toResponseDTOs(batch).forEach(consumer);
+                batch.clear();
+            }
+        });
+        appointmentResponseAssembler.toResponseDTOs(batch).forEach(consumer);
+    }
+
+    private AppointmentResponseDTO bookAppointment(AppointmentRequestDTO appointmentRequestDTO) {
+        User customer = userRepository.findById(appointmentRequestDTO.customerId())
+                .orElseThrow(UserNotFoundException::new);
+
+        Professional professional = professionalRepository.findById(appointmentRequestDTO.professionalId())
+                .orElseThrow(ProfessionalNotFoundException::new);
+
+        ServiceEntity service = serviceRepository.findById(appointmentRequestDTO.serviceId())
+                .orElseThrow(ServiceNotFoundException::new);
+
+        LocalDate date = appointmentRequestDTO.date();
+        LocalTime startTime = appointmentRequestDTO.startTime();
+        LocalTime endTime = appointmentRequestDTO.endTime();
+
+        Schedule schedule = scheduleBookingService.reserveSlot(professional, date, startTime, endTime);
+
+        Appointment appointment = new Appointment();
+        appointment.setCustomer(customer);
+        appointment.setProfessional(professional);
+        appointment.setService(service);
+        appointment.setSchedule(schedule);
+        appointment.setStatus("PENDING");
+
+        Appointment savedAppointment = appointmentRepository.save(appointment);
+
+        return new AppointmentResponseDTO(
+                savedAppointment.getId(),
+                mapToUserResponseDTO(savedAppointment.getCustomer()),
+                mapToProfessionalResponseDTO(savedAppointment.getProfessional()),
+                mapToServiceResponseDTO(savedAppointment.getService()),
+                mapToScheduleResponseDTO(savedAppointment.getSchedule()),
+                savedAppointment.getStatus());
     }
 
     private UserResponseDTO mapToUserResponseDTO(User user) {
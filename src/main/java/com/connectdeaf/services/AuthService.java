@@ -10,7 +10,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
@@ -27,14 +26,14 @@ public class AuthService {
     private final UserService userService;
     private final ProfessionalRepository professionalRepository;
     private final JwtEncoder jwtEncoder;
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final PasswordHasher passwordHasher;
 
     public AuthService(UserService userService, ProfessionalRepository professionalRepository, JwtEncoder jwtEncoder,
-            BCryptPasswordEncoder bCryptPasswordEncoder) {
+            PasswordHasher passwordHasher) {
         this.userService = userService;
         this.professionalRepository = professionalRepository;
         this.jwtEncoder = jwtEncoder;
-        this.bCryptPasswordEncoder = bCryptPasswordEncoder;
+        this.passwordHasher = passwordHasher;
     }
 
     public LoginResponseDTO login(LoginRequestDTO loginRequestDTO) {
@@ -51,7 +50,8 @@ public class AuthService {
         User user = userService.findUserByEmail(loginRequestDTO.email())
                 .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado"));
 
-        if (!bCryptPasswordEncoder.matches(loginRequestDTO.password(), user.getPassword())) {
+        // BCrypt roda no pool limitado; com ele cheio o login recebe 503 na hora
+        if (!passwordHasher.matches(loginRequestDTO.password(), user.getPassword())) {
             logger.warn("Senha inválida para o email: {}", loginRequestDTO.email());
             throw new BadCredentialsException("Email ou senha inválidos");
         }
@@ -0,0 +1,366 @@
+package com.connectdeaf.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.connectdeaf.controllers.dtos.requests.AddressRequestDTO;
+import com.connectdeaf.controllers.dtos.requests.ProfessionalRequestDTO;
+import com.connectdeaf.controllers.dtos.response.ProfessionalImportResultDTO;
+import com.connectdeaf.controllers.dtos.response.ProfessionalImportSummaryDTO;
+import com.connectdeaf.domain.address.Address;
+import com.connectdeaf.domain.professional.Professional;
+import com.connectdeaf.domain.professional.ProfessionalImportFormat;
+import com.connectdeaf.domain.professional.ProfessionalStats;
+import com.connectdeaf.domain.user.Role;
+import com.connectdeaf.domain.user.User;
+import com.connectdeaf.repositories.AddressRepository;
+import com.connectdeaf.repositories.ProfessionalRepository;
+import com.connectdeaf.repositories.ProfessionalStatsRepository;
+import com.connectdeaf.repositories.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+// Cada lote consulta seus e-mails de uma vez e é gravado numa transação, em batches JDBC;
+// linhas inválidas são reportadas e puladas sem derrubar o arquivo
+@Service
+public class ProfessionalImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfessionalImportService.class);
+
+    static final int CHUNK_SIZE = 200;
+
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+
+    private final UserRepository userRepository;
+    private final AddressRepository addressRepository;
+    private final ProfessionalRepository professionalRepository;
+    private final ProfessionalStatsRepository professionalStatsRepository;
+    private final RoleRegistry roleRegistry;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    // BCrypt é limitado por CPU: uma thread por núcleo
+    private final ExecutorService hashingExecutor = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(),
+            Thread.ofPlatform().name("professional-import-", 0).daemon(true).factory());
+
+    public ProfessionalImportService(UserRepository userRepository, AddressRepository addressRepository,
+                                     ProfessionalRepository professionalRepository,
+                                     ProfessionalStatsRepository professionalStatsRepository,
+                                     RoleRegistry roleRegistry, RegisteredEmailFilter registeredEmailFilter,
+                                     BCryptPasswordEncoder passwordEncoder, Validator validator,
+                                     ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.addressRepository = addressRepository;
+        this.professionalRepository = professionalRepository;
+        this.professionalStatsRepository = professionalStatsRepository;
+        this.roleRegistry = roleRegistry;
+        this.registeredEmailFilter = registeredEmailFilter;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashingExecutor.shutdownNow();
+    }
+
+    // O resultado de cada linha sai na ordem do arquivo assim que o lote dela é gravado
+    public ProfessionalImportSummaryDTO importProfessionals(InputStream input, ProfessionalImportFormat format,
+                                                            Consumer<ProfessionalImportResultDTO> consumer)
+            throws IOException {
+        long startedAt = System.nanoTime();
+        Iterator<ImportRow> rows = format == ProfessionalImportFormat.CSV ? csvRows(input) : ndjsonRows(input);
+        Set<String> emailsInFile = new HashSet<>();
+        int total = 0;
+        int imported = 0;
+
+        List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        while (rows.hasNext()) {
+            chunk.add(rows.next());
+            if (chunk.size() == CHUNK_SIZE || !rows.hasNext()) {
+                for (ProfessionalImportResultDTO result : importChunk(chunk, emailsInFile)) {
+                    if (result.status() == ProfessionalImportResultDTO.Status.IMPORTED) {
+                        imported++;
+                    }
+                    consumer.accept(result);
+                }
+                total += chunk.size();
+                chunk.clear();
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        double rowsPerSecond = elapsedNanos == 0 ? 0 : total / (elapsedNanos / 1_000_000_000.0);
+        logger.info("Imported {} of {} professionals in {} ms ({} rows/s)", imported, total,
+                elapsedNanos / 1_000_000, Math.round(rowsPerSecond));
+        return new ProfessionalImportSummaryDTO(total, imported, total - imported, elapsedNanos / 1_000_000,
+                rowsPerSecond);
+    }
+
+    private List<ProfessionalImportResultDTO> importChunk(List<ImportRow> chunk, Set<String> emailsInFile) {
+        ProfessionalImportResultDTO[] results = new ProfessionalImportResultDTO[chunk.size()];
+        List<Candidate> candidates = new ArrayList<>();
+
+        List<String> emails = chunk.stream()
+                .filter(row -> row.request() != null && row.request().email() != null)
+                .map(row -> row.request().email())
+                .toList();
+        // Aqui não se confia só no filtro: um e-mail que ele não conhece faria o lote inteiro falhar
+        Set<String> registered = emails.isEmpty() ? Set.of() : new HashSet<>(userRepository.findEmailsIn(
+                emails.stream().map(RegisteredEmailFilter::normalize).toList()));
+
+        for (int i = 0; i < chunk.size(); i++) {
+            ImportRow row = chunk.get(i);
+            String error = row.error() != null ? row.error() : validate(row.request());
+            String email = row.request() == null ? null : row.request().email();
+            if (error == null && registered.contains(RegisteredEmailFilter.normalize(email))) {
+                error = "Email already registered";
+            }
+            if (error == null && !emailsInFile.add(RegisteredEmailFilter.normalize(email))) {
+                error = "Email repeated in the file";
+            }
+            if (error != null) {
+                results[i] = ProfessionalImportResultDTO.failed(row.row(), email, error);
+            } else {
+                candidates.add(new Candidate(i, row, hash(row.request().password())));
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            // Os hashes ficam prontos antes de abrir a transação
+            CompletableFuture.allOf(candidates.stream().map(Candidate::passwordHash)
+                    .toArray(CompletableFuture[]::new)).join();
+            try {
+                List<UUID> ids = transactionTemplate.execute(status -> persist(candidates));
+                for (int c = 0; c < candidates.size(); c++) {
+                    Candidate candidate = candidates.get(c);
+                    results[candidate.index()] = ProfessionalImportResultDTO.imported(candidate.row().row(),
+                            candidate.row().request().email(), ids.get(c));
+                }
+            } catch (DataIntegrityViolationException e) {
+                // Outro cadastro concorrente usou algum dos e-mails: refaz linha a linha
+                for (Candidate candidate : candidates) {
+                    results[candidate.index()] = persistAlone(candidate);
+                }
+            }
+        }
+        return List.of(results);
+    }
+
+    private ProfessionalImportResultDTO persistAlone(Candidate candidate) {
+        String email = candidate.row().request().email();
+        try {
+            List<UUID> ids = transactionTemplate.execute(status -> persist(List.of(candidate)));
+            return ProfessionalImportResultDTO.imported(candidate.row().row(), email, ids.get(0));
+        } catch (DataIntegrityViolationException e) {
+            return ProfessionalImportResultDTO.failed(candidate.row().row(), email, "Email already registered");
+        }
+    }
+
+    private List<UUID> persist(List<Candidate> candidates) {
+        Role role = roleRegistry.get(Role.Values.ROLE_PROFESSIONAL);
+        List<User> users = new ArrayList<>(candidates.size());
+        List<Address> addresses = new ArrayList<>();
+        List<Professional> professionals = new ArrayList<>(candidates.size());
+
+        for (Candidate candidate : candidates) {
+            ProfessionalRequestDTO request = candidate.row().request();
+            User user = buildUser(request);
+            user.setPassword(candidate.passwordHash().join());
+            user.setRoles(Set.of(role));
+            users.add(user);
+            for (AddressRequestDTO addressRequest : addressesOf(request)) {
+                addresses.add(AddressService.buildAddress(addressRequest, user));
+            }
+            professionals.add(buildProfessional(request, user));
+        }
+
+        userRepository.saveAll(users);
+        addressRepository.saveAll(addresses);
+        professionalRepository.saveAll(professionals);
+        professionalStatsRepository.saveAll(professionals.stream()
+                .map(professional -> ProfessionalStats.empty(professional.getId()))
+                .toList());
+        // Envia os lotes aqui para que violações de unicidade cheguem traduzidas
+        professionalRepository.flush();
+        users.forEach(user -> registeredEmailFilter.put(user.getEmail()));
+        return professionals.stream().map(Professional::getId).toList();
+    }
+
+    // Mesmas restrições que as entidades verificam no insert
+    private String validate(ProfessionalRequestDTO request) {
+        if (isBlank(request.name()) || isBlank(request.email()) || isBlank(request.password())) {
+            return "name, email and password are required";
+        }
+        User user = buildUser(request);
+        Set<ConstraintViolation<?>> violations = new HashSet<>();
+        violations.addAll(validator.validate(user));
+        violations.addAll(validator.validate(buildProfessional(request, user)));
+        for (AddressRequestDTO addressRequest : addressesOf(request)) {
+            violations.addAll(validator.validate(AddressService.buildAddress(addressRequest, user)));
+        }
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private CompletableFuture<String> hash(String password) {
+        return CompletableFuture.supplyAsync(() -> passwordEncoder.encode(password), hashingExecutor);
+    }
+
+    private Iterator<ImportRow> csvRows(InputStream input) throws IOException {
+        MappingIterator<Map<String, String>> values = CSV_MAPPER.readerForMapOf(String.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .readValues(input);
+        return new Iterator<>() {
+            private int row;
+
+            @Override
+            public boolean hasNext() {
+                return values.hasNext();
+            }
+
+            @Override
+            public ImportRow next() {
+                row++;
+                try {
+                    return new ImportRow(row, fromCsv(values.next()), null);
+                } catch (RuntimeException e) {
+                    return new ImportRow(row, null, "Invalid row: " + e.getMessage());
+                }
+            }
+        };
+    }
+
+    private Iterator<ImportRow> ndjsonRows(InputStream input) {
+        Iterator<String> lines = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))
+                .lines()
+                .filter(line -> !line.isBlank())
+                .iterator();
+        return new Iterator<>() {
+            private int row;
+
+            @Override
+            public boolean hasNext() {
+                return lines.hasNext();
+            }
+
+            @Override
+            public ImportRow next() {
+                if (!lines.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                row++;
+                try {
+                    ProfessionalRequestDTO request = objectMapper.readValue(lines.next(), ProfessionalRequestDTO.class);
+                    // A linha "null" é JSON válido, mas não descreve um profissional
+                    return request != null
+                            ? new ImportRow(row, request, null)
+                            : new ImportRow(row, null, "Invalid row: expected an object");
+                } catch (JsonProcessingException e) {
+                    return new ImportRow(row, null, "Invalid JSON: " + e.getOriginalMessage());
+                }
+            }
+        };
+    }
+
+    private static ProfessionalRequestDTO fromCsv(Map<String, String> columns) {
+        AddressRequestDTO address = new AddressRequestDTO(
+                column(columns, "cep"),
+                column(columns, "street"),
+                column(columns, "number"),
+                column(columns, "complement"),
+                column(columns, "neighborhood"),
+                column(columns, "city"),
+                column(columns, "state"));
+        boolean hasAddress = address.cep() != null || address.street() != null || address.city() != null;
+        String workStartTime = column(columns, "workStartTime");
+        String workEndTime = column(columns, "workEndTime");
+        String breakDuration = column(columns, "breakDuration");
+        return new ProfessionalRequestDTO(
+                column(columns, "name"),
+                column(columns, "email"),
+                column(columns, "password"),
+                column(columns, "phoneNumber"),
+                hasAddress ? List.of(address) : List.of(),
+                column(columns, "qualification"),
+                column(columns, "areaOfExpertise"),
+                workStartTime == null ? null : LocalTime.parse(workStartTime),
+                workEndTime == null ? null : LocalTime.parse(workEndTime),
+                breakDuration == null ? null : Duration.parse(breakDuration));
+    }
+
+    private static String column(Map<String, String> columns, String name) {
+        String value = columns.get(name);
+        return isBlank(value) ? null : value.trim();
+    }
+
+    private static List<AddressRequestDTO> addressesOf(ProfessionalRequestDTO request) {
+        return request.addresses() == null ? List.of() : request.addresses();
+    }
+
+    private static User buildUser(ProfessionalRequestDTO request) {
+        User user = new User();
+        user.setName(request.name());
+        user.setEmail(request.email());
+        user.setPhoneNumber(request.phoneNumber());
+        return user;
+    }
+
+    private static Professional buildProfessional(ProfessionalRequestDTO request, User user) {
+        return new Professional(null, request.qualification(), request.areaOfExpertise(), user, null,
+                request.workStartTime(), request.workEndTime(), request.breakDuration());
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private record ImportRow(int row, ProfessionalRequestDTO request, String error) {
+    }
+
+    private record Candidate(int index, ImportRow row, CompletableFuture<String> passwordHash) {
+    }
+}
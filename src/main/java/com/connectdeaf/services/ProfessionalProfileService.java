@@ -0,0 +1,66 @@
+package com.connectdeaf.services;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.springframework.stereotype.Service;
+
+import com.connectdeaf.controllers.dtos.response.ProfessionalProfileResponseDTO;
+import com.connectdeaf.controllers.dtos.response.ProfessionalResponseDTO;
+import com.connectdeaf.controllers.dtos.response.ScheduleResponseDTO;
+import com.connectdeaf.controllers.dtos.response.ServiceResponseDTO;
+
+// Serviços e disponibilidade são lidos em paralelo em threads virtuais, reaproveitando o profissional;
+// se um ramo falha, o outro é cancelado
+@Service
+public class ProfessionalProfileService {
+
+    private final ProfessionalService professionalService;
+    private final ServiceService serviceService;
+    private final ScheduleAvailabilityIndex availabilityIndex;
+
+    public ProfessionalProfileService(ProfessionalService professionalService, ServiceService serviceService,
+                                      ScheduleAvailabilityIndex availabilityIndex) {
+        this.professionalService = professionalService;
+        this.serviceService = serviceService;
+        this.availabilityIndex = availabilityIndex;
+    }
+
+    public ProfessionalProfileResponseDTO getProfile(UUID professionalId, LocalDate date) {
+        ProfessionalResponseDTO professional = professionalService.findById(professionalId);
+
+        // O close() do executor só retorna quando as duas tarefas terminaram
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<List<ServiceResponseDTO>> services = executor.submit(
+                    () -> serviceService.findServicesByProfessional(professional));
+            Future<List<ScheduleResponseDTO>> availability = executor.submit(
+                    () -> availabilityIndex.findAvailableSlots(professional, date));
+            try {
+                return new ProfessionalProfileResponseDTO(professional, join(services), date, join(availability));
+            } catch (RuntimeException e) {
+                services.cancel(true);
+                availability.cancel(true);
+                throw e;
+            }
+        }
+    }
+
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.connectdeaf.services;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import com.connectdeaf.controllers.dtos.response.ProfessionalRankingPageResponseDTO;
+import com.connectdeaf.controllers.dtos.response.ProfessionalRankingResponseDTO;
+import com.connectdeaf.domain.professional.ProfessionalRankingCursor;
+import com.connectdeaf.domain.professional.ProfessionalStats;
+import com.connectdeaf.repositories.ProfessionalStatsRepository;
+import com.connectdeaf.repositories.projections.ProfessionalRankingProjection;
+
+import jakarta.transaction.Transactional;
+
+@Service
+public class ProfessionalRankingService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ProfessionalStatsRepository professionalStatsRepository;
+
+    public ProfessionalRankingService(ProfessionalStatsRepository professionalStatsRepository) {
+        this.professionalStatsRepository = professionalStatsRepository;
+    }
+
+    // Na transação da mudança, antes de gravá-la e com o agendamento travado (findByIdForUpdate)
+    @Transactional
+    public void recordStatusChange(UUID professionalId, String previousStatus, String newStatus) {
+        if (previousStatus != null && previousStatus.equals(newStatus)) {
+            return;
+        }
+        long finished = delta(ProfessionalStats.FINISHED, previousStatus, newStatus);
+        long cancelled = delta(ProfessionalStats.CANCELLED, previousStatus, newStatus);
+        long rejected = delta(ProfessionalStats.REJECTED, previousStatus, newStatus);
+        if (finished == 0 && cancelled == 0 && rejected == 0) {
+            return;
+        }
+        if (professionalStatsRepository.increment(professionalId, finished, cancelled, rejected) == 0) {
+            professionalStatsRepository.seedFromAppointments(professionalId);
+            professionalStatsRepository.increment(professionalId, finished, cancelled, rejected);
+        }
+    }
+
+    @Transactional
+    public ProfessionalRankingPageResponseDTO findRankingPage(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // Uma linha a mais revela se há próxima página
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<ProfessionalRankingProjection> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = professionalStatsRepository.findRankingFirstPage(limit);
+        } else {
+            ProfessionalRankingCursor after = ProfessionalRankingCursor.decode(cursor);
+            rows = professionalStatsRepository.findRankingPageAfter(after.finishedCount(), after.id(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ProfessionalRankingProjection> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            ProfessionalRankingProjection last = page.get(pageSize - 1);
+            nextCursor = new ProfessionalRankingCursor(last.finishedCount(), last.id()).encode();
+        }
+        return new ProfessionalRankingPageResponseDTO(page.stream()
+                .map(row -> new ProfessionalRankingResponseDTO(row.id(), row.name(), row.areaOfExpertise(),
+                        row.finishedCount(), row.cancelledCount(), row.rejectedCount()))
+                .toList(), nextCursor);
+    }
+
+    private static long delta(String counted, String previousStatus, String newStatus) {
+        return (counted.equals(newStatus) ? 1 : 0) - (counted.equals(previousStatus) ? 1 : 0);
+    }
+}
@@ -0,0 +1,81 @@
+package com.connectdeaf.services;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.connectdeaf.controllers.dtos.response.AddressResponseDTO;
+import com.connectdeaf.controllers.dtos.response.ProfessionalResponseDTO;
+import com.connectdeaf.repositories.AddressRepository;
+import com.connectdeaf.repositories.ProfessionalRepository;
+import com.connectdeaf.repositories.projections.AddressProjection;
+import com.connectdeaf.repositories.projections.ProfessionalProjection;
+
+// Uma consulta para os profissionais e outra para os endereços do lote; usado pelos dois montadores
+@Service
+public class ProfessionalResponseAssembler {
+
+    private final ProfessionalRepository professionalRepository;
+    private final AddressRepository addressRepository;
+
+    public ProfessionalResponseAssembler(ProfessionalRepository professionalRepository,
+                                         AddressRepository addressRepository) {
+        this.professionalRepository = professionalRepository;
+        this.addressRepository = addressRepository;
+    }
+
+    public Map<UUID, ProfessionalProjection> findProjections(Set<UUID> professionalIds) {
+        return professionalRepository.findProjectionsByIdIn(professionalIds).stream()
+                .collect(Collectors.toMap(ProfessionalProjection::id, Function.identity()));
+    }
+
+    public Map<UUID, List<AddressResponseDTO>> findAddressesByUser(Set<UUID> userIds) {
+        return addressRepository.findProjectionsByUserIdIn(userIds).stream()
+                .collect(Collectors.groupingBy(AddressProjection::userId,
+                        Collectors.mapping(this::toAddressResponseDTO, Collectors.toList())));
+    }
+
+    public Map<UUID, ProfessionalResponseDTO> findResponseDTOs(Set<UUID> professionalIds) {
+        Map<UUID, ProfessionalProjection> professionals = findProjections(professionalIds);
+        Set<UUID> userIds = professionals.values().stream()
+                .map(ProfessionalProjection::userId)
+                .collect(Collectors.toSet());
+        return toResponseDTOs(professionals, findAddressesByUser(userIds));
+    }
+
+    public Map<UUID, ProfessionalResponseDTO> toResponseDTOs(Map<UUID, ProfessionalProjection> professionals,
+                                                             Map<UUID, List<AddressResponseDTO>> addressesByUser) {
+        return professionals.values().stream()
+                .collect(Collectors.toMap(ProfessionalProjection::id,
+                        professional -> toResponseDTO(professional, addressesByUser)));
+    }
+
+    private ProfessionalResponseDTO toResponseDTO(ProfessionalProjection professional,
+                                                  Map<UUID, List<AddressResponseDTO>> addressesByUser) {
+        return new ProfessionalResponseDTO(
+                professional.id(),
+                professional.name(),
+                professional.email(),
+                professional.phoneNumber(),
+                professional.qualification(),
+                professional.areaOfExpertise(),
+                professional.workStartTime(),
+                professional.workEndTime(),
+                professional.breakDuration(),
+                addressesByUser.getOrDefault(professional.userId(), Collections.emptyList()));
+    }
+
+    private AddressResponseDTO toAddressResponseDTO(AddressProjection address) {
+        return new AddressResponseDTO(
+                address.street(),
+                address.city(),
+                address.state(),
+                address.cep());
+    }
+}
@@ -2,41 +2,70 @@ package com.connectdeaf.services;
 
 import com.connectdeaf.controllers.dtos.requests.ProfessionalRequestDTO;
 import com.connectdeaf.controllers.dtos.requests.UserRequestDTO;
+import com.connectdeaf.controllers.dtos.response.AvailableSlotResponseDTO;
+import com.connectdeaf.controllers.dtos.response.DayAvailabilityResponseDTO;
+import com.connectdeaf.controllers.dtos.response.ProfessionalDirectoryPageResponseDTO;
 import com.connectdeaf.controllers.dtos.response.ProfessionalResponseDTO;
+import com.connectdeaf.controllers.dtos.response.ProfessionalSummaryResponseDTO;
 import com.connectdeaf.controllers.dtos.response.ScheduleResponseDTO;
 import com.connectdeaf.controllers.dtos.response.UserResponseDTO;
 import com.connectdeaf.controllers.dtos.response.AddressResponseDTO;
+import com.connectdeaf.domain.address.Address;
 import com.connectdeaf.domain.professional.Professional;
-import com.connectdeaf.domain.schedule.Schedule;
+import com.connectdeaf.domain.professional.ProfessionalCursor;
+import com.connectdeaf.domain.professional.ProfessionalStats;
 import com.connectdeaf.domain.user.User;
+import com.connectdeaf.exceptions.InvalidDateRangeException;
 import com.connectdeaf.exceptions.ProfessionalNotFoundException;
 import com.connectdeaf.repositories.ProfessionalRepository;
-import com.connectdeaf.repositories.ScheduleRepository;
+import com.connectdeaf.repositories.ProfessionalStatsRepository;
+import com.connectdeaf.repositories.projections.ProfessionalProjection;
+import com.connectdeaf.repositories.projections.ProfessionalSummaryProjection;
+import com.connectdeaf.services.invalidation.CacheInvalidation;
+import com.connectdeaf.services.invalidation.CacheInvalidationBus;
 
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
 import java.time.LocalDate;
-import java.time.LocalTime;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.Collections;
 
 @Service
 public class ProfessionalService {
+    private static final int MAX_AVAILABILITY_DAYS = 62;
+    private static final int MAX_EARLIEST_RESULTS = 50;
+    private static final int MAX_DIRECTORY_PAGE_SIZE = 100;
+    private static final int EARLIEST_SEARCH_DAYS = 28;
+    private static final int EARLIEST_WINDOW_DAYS = 7;
+
     private final ProfessionalRepository professionalRepository;
+    private final ProfessionalStatsRepository professionalStatsRepository;
     private final UserService userService;
-    private final ScheduleRepository scheduleRepository;
+    private final ScheduleAvailabilityIndex availabilityIndex;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
-    public ProfessionalService(ProfessionalRepository professionalRepository, UserService userService,
-            ScheduleRepository scheduleRepository) {
+    public ProfessionalService(ProfessionalRepository professionalRepository,
+            ProfessionalStatsRepository professionalStatsRepository, UserService userService,
+            ScheduleAvailabilityIndex availabilityIndex, CacheInvalidationBus cacheInvalidationBus) {
         this.professionalRepository = professionalRepository;
+        this.professionalStatsRepository = professionalStatsRepository;
         this.userService = userService;
-        this.scheduleRepository = scheduleRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.cacheInvalidationBus = cacheInvalidationBus;
     }
 
     @Transactional
@@ -62,6 +91,7 @@ public class ProfessionalService {
                 professionalRequestDTO.breakDuration());
 
         Professional savedProfessional = professionalRepository.save(newProfessional);
+        professionalStatsRepository.save(ProfessionalStats.empty(savedProfessional.getId()));
 
         return createProfessionalResponseDTO(savedProfessional);
     }
@@ -99,6 +129,7 @@ public class ProfessionalService {
         }
 
         Professional updatedProfessional = professionalRepository.save(professional);
+        cacheInvalidationBus.publish(CacheInvalidation.professional(professionalId));
 
         return createProfessionalResponseDTO(updatedProfessional);
     }
@@ -111,51 +142,109 @@ public class ProfessionalService {
                 .toList();
     }
 
+    @Transactional
+    public ProfessionalDirectoryPageResponseDTO findDirectoryPage(String areaOfExpertise, String qualification,
+            String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_DIRECTORY_PAGE_SIZE);
+        // Uma linha a mais revela se há próxima página
+        Limit limit = Limit.of(pageSize + 1);
+        String area = lowerOrNull(areaOfExpertise);
+        String qualificationFilter = lowerOrNull(qualification);
+
+        List<ProfessionalSummaryProjection> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = professionalRepository.findDirectoryFirstPage(area, qualificationFilter, limit);
+        } else {
+            ProfessionalCursor after = ProfessionalCursor.decode(cursor);
+            rows = professionalRepository.findDirectoryPageAfter(area, qualificationFilter, after.name(), after.id(),
+                    limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ProfessionalSummaryProjection> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            ProfessionalSummaryProjection last = page.get(pageSize - 1);
+            nextCursor = new ProfessionalCursor(last.name(), last.id()).encode();
+        }
+        return new ProfessionalDirectoryPageResponseDTO(page.stream()
+                .map(row -> new ProfessionalSummaryResponseDTO(row.id(), row.name(), row.areaOfExpertise(),
+                        row.city()))
+                .toList(), nextCursor);
+    }
+
+    private static String lowerOrNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
     @Transactional
     public void deleteProfessional(UUID professionalId) {
         Professional professional = professionalRepository.findById(professionalId)
                 .orElseThrow(() -> new ProfessionalNotFoundException());
 
+        professionalStatsRepository.deleteById(professionalId);
         professionalRepository.delete(professional);
+        cacheInvalidationBus.publish(CacheInvalidation.professional(professionalId));
+        // O usuário é removido em cascata junto com o profissional
+        cacheInvalidationBus.publishToOtherNodes(CacheInvalidation.user(professional.getUser().getId()));
     }
 
     @Transactional
     public List<ScheduleResponseDTO> getSchedulesByProfessionalAndDate(UUID professionalId, LocalDate date) {
-        List<Schedule> schedulesNotAvaibled = scheduleRepository.findByProfessionalIdAndDate(professionalId, date);
-        List<Schedule> schedulesAvaibled = generateSchedulesAvaibled(professionalId, date, schedulesNotAvaibled);
-        return schedulesAvaibled.stream()
-                .map(this::createScheduleResponseDTO)
-                .collect(Collectors.toList());
+        return availabilityIndex.findAvailableSlots(professionalId, date);
     }
 
     @Transactional
-    private List<Schedule> generateSchedulesAvaibled(UUID professionalId, LocalDate date,
-            List<Schedule> schedulesNotAvaibled) {
-        Professional professional = professionalRepository.findById(professionalId)
-                .orElseThrow(() -> new ProfessionalNotFoundException());
-
-        LocalTime workStartTime = professional.getWorkStartTime();
-        LocalTime workEndTime = professional.getWorkEndTime();
-        Duration sessionDuration = professional.getBreakDuration();
-
-        List<Schedule> schedulesAvaibled = new ArrayList<>();
-        LocalTime currentTime = workStartTime;
-
-        while (!currentTime.plus(sessionDuration).isAfter(workEndTime)) {
-            final LocalTime startTime = currentTime;
-            final LocalTime endTime = currentTime.plus(sessionDuration);
-
-            boolean isAvailable = schedulesNotAvaibled.stream()
-                    .noneMatch(schedule -> schedule.getStartTime().equals(startTime));
+    public List<DayAvailabilityResponseDTO> getAvailabilityByProfessional(UUID professionalId, LocalDate from,
+            LocalDate to) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_AVAILABILITY_DAYS) {
+            throw new InvalidDateRangeException(MAX_AVAILABILITY_DAYS);
+        }
+        return availabilityIndex.findAvailableSlots(professionalId, from, to);
+    }
 
-            if (isAvailable) {
-                schedulesAvaibled.add(new Schedule(null, professional, date, startTime, endTime));
+    // Lê uma semana por vez de todos os candidatos e junta numa fila de prioridade até ter limit horários
+    @Transactional
+    public List<AvailableSlotResponseDTO> findEarliestAvailable(String areaOfExpertise, String city,
+            LocalDateTime notBefore, int limit) {
+        int wanted = Math.min(Math.max(limit, 1), MAX_EARLIEST_RESULTS);
+        List<ProfessionalProjection> candidates = city == null || city.isBlank()
+                ? professionalRepository.findProjectionsByAreaOfExpertise(areaOfExpertise)
+                : professionalRepository.findProjectionsByAreaOfExpertiseAndCity(areaOfExpertise,
+                        Address.normalize(city));
+        if (candidates.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<UUID, ProfessionalProjection> candidatesById = candidates.stream()
+                .collect(Collectors.toMap(ProfessionalProjection::id, Function.identity()));
+
+        List<AvailableSlotResponseDTO> earliest = new ArrayList<>(wanted);
+        LocalDate lastDay = notBefore.toLocalDate().plusDays(EARLIEST_SEARCH_DAYS - 1);
+        for (LocalDate from = notBefore.toLocalDate(); earliest.size() < wanted && !from.isAfter(lastDay);
+                from = from.plusDays(EARLIEST_WINDOW_DAYS)) {
+            LocalDate to = from.plusDays(EARLIEST_WINDOW_DAYS - 1);
+            if (to.isAfter(lastDay)) {
+                to = lastDay;
             }
 
-            currentTime = endTime;
+            // Cada cursor aponta para o próximo slot livre de um profissional; a fila devolve o mais cedo
+            PriorityQueue<SlotCursor> queue = new PriorityQueue<>(SlotCursor.EARLIEST_FIRST);
+            availabilityIndex.findAvailableSlots(candidatesById.keySet(), from, to).forEach((professionalId, days) -> {
+                SlotCursor cursor = new SlotCursor(candidatesById.get(professionalId), days, notBefore);
+                if (cursor.advance()) {
+                    queue.add(cursor);
+                }
+            });
+
+            while (earliest.size() < wanted && !queue.isEmpty()) {
+                SlotCursor cursor = queue.poll();
+                earliest.add(cursor.toResponseDTO());
+                if (cursor.advance()) {
+                    queue.add(cursor);
+                }
+            }
         }
-
-        return schedulesAvaibled;
+        return earliest;
     }
 
     private ProfessionalResponseDTO createProfessionalResponseDTO(Professional professional) {
@@ -183,12 +272,33 @@ public class ProfessionalService {
                 addressResponseDTOs);
     }
 
-    private ScheduleResponseDTO createScheduleResponseDTO(Schedule schedule) {
-        return new ScheduleResponseDTO(
-                schedule.getId(),
-                schedule.getProfessional().getId(),
-                schedule.getDate(),
-                schedule.getStartTime(),
-                schedule.getEndTime());
+    private static final class SlotCursor {
+        static final Comparator<SlotCursor> EARLIEST_FIRST = Comparator
+                .comparing((SlotCursor cursor) -> cursor.current.date())
+                .thenComparing(cursor -> cursor.current.startTime())
+                .thenComparing(cursor -> cursor.professional.id());
+
+        private final ProfessionalProjection professional;
+        private final Iterator<ScheduleResponseDTO> slots;
+        private ScheduleResponseDTO current;
+
+        SlotCursor(ProfessionalProjection professional, List<DayAvailabilityResponseDTO> days,
+                LocalDateTime notBefore) {
+            this.professional = professional;
+            this.slots = days.stream()
+                    .flatMap(day -> day.schedules().stream())
+                    .filter(slot -> !slot.date().atTime(slot.startTime()).isBefore(notBefore))
+                    .iterator();
+        }
+
+        boolean advance() {
+            current = slots.hasNext() ? slots.next() : null;
+            return current != null;
+        }
+
+        AvailableSlotResponseDTO toResponseDTO() {
+            return new AvailableSlotResponseDTO(professional.id(), professional.name(),
+                    professional.areaOfExpertise(), current.date(), current.startTime(), current.endTime());
+        }
     }
-}
\ No newline at end of file
+}
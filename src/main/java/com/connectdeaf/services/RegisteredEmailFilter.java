@@ -0,0 +1,146 @@
+package com.connectdeaf.services;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.connectdeaf.repositories.UserRepository;
+import com.connectdeaf.services.invalidation.CacheInvalidation;
+import com.connectdeaf.services.invalidation.CacheInvalidationListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// E-mail novo é aceito sem consultar o banco; o que o filtro não souber (importação,
+// SQL direto) ainda esbarra no índice único em lower(email)
+@Service
+public class RegisteredEmailFilter implements CacheInvalidationListener {
+    private static final Logger logger = LoggerFactory.getLogger(RegisteredEmailFilter.class);
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    // Folga para crescer sem reconstruir: a taxa só sobe depois de dobrar a base
+    private static final long MIN_CAPACITY = 10_000;
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter misses;
+    private final Counter hits;
+    private final Counter falsePositives;
+    private final LongAdder negatives = new LongAdder();
+    private final LongAdder falsePositiveCount = new LongAdder();
+
+    // Nulo até a primeira carga: enquanto isso toda verificação vai ao banco
+    private volatile BloomFilter filter;
+    private volatile BloomFilter building;
+
+    public RegisteredEmailFilter(UserRepository userRepository, PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.misses = checks(meterRegistry, "miss");
+        this.hits = checks(meterRegistry, "hit");
+        this.falsePositives = checks(meterRegistry, "false_positive");
+        Gauge.builder("users.email.filter.false.positive.rate", this, RegisteredEmailFilter::observedFalsePositiveRate)
+                .register(meterRegistry);
+        Gauge.builder("users.email.filter.expected.false.positive.rate", this,
+                        RegisteredEmailFilter::expectedFalsePositiveRate)
+                .register(meterRegistry);
+    }
+
+    public static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        long count = userRepository.count();
+        BloomFilter rebuilt = new BloomFilter(Math.max(count * 2, MIN_CAPACITY), FALSE_POSITIVE_RATE);
+        // Cadastros durante a varredura entram também no filtro novo
+        building = rebuilt;
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<String> emails = userRepository.streamAllEmails()) {
+                emails.forEach(email -> rebuilt.put(normalize(email)));
+            }
+        });
+        filter = rebuilt;
+        building = null;
+        logger.info("Email filter loaded with {} users in {} ms", count, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    public void put(String email) {
+        String key = normalize(email);
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(key);
+        }
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(key);
+        }
+    }
+
+    // lookup só é chamado quando o filtro pode conter o e-mail
+    public boolean isRegistered(String email, Function<Collection<String>, Collection<String>> lookup) {
+        String key = normalize(email);
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(key)) {
+            misses.increment();
+            negatives.increment();
+            return false;
+        }
+
+        boolean registered = lookup.apply(List.of(key)).contains(key);
+        if (current != null) {
+            if (registered) {
+                hits.increment();
+            } else {
+                falsePositives.increment();
+                falsePositiveCount.increment();
+                negatives.increment();
+            }
+        }
+        return registered;
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidation invalidation) {
+        switch (invalidation.type()) {
+            // Cadastro ou troca de e-mail em outro nó
+            case USER -> userRepository.findEmailById(invalidation.id()).ifPresent(this::put);
+            case ALL -> rebuild();
+            case SERVICE, PROFESSIONAL, SCHEDULE -> {
+                // Não alteram e-mails
+            }
+        }
+    }
+
+    double observedFalsePositiveRate() {
+        long total = negatives.sum();
+        return total == 0 ? 0 : (double) falsePositiveCount.sum() / total;
+    }
+
+    double expectedFalsePositiveRate() {
+        BloomFilter current = filter;
+        return current == null ? 0 : current.expectedFalsePositiveRate();
+    }
+
+    private static Counter checks(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("users.email.filter.checks")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,59 @@
+package com.connectdeaf.services;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.connectdeaf.domain.user.Role;
+import com.connectdeaf.repositories.RoleRepository;
+import com.connectdeaf.services.invalidation.CacheInvalidation;
+import com.connectdeaf.services.invalidation.CacheInvalidationListener;
+
+// Carregados uma vez: atribuir papel a um usuário novo não faz consulta. CacheInvalidation.all() recarrega
+@Service
+public class RoleRegistry implements CacheInvalidationListener {
+
+    private final RoleRepository roleRepository;
+    private volatile Map<Role.Values, Role> roles = Map.of();
+
+    public RoleRegistry(RoleRepository roleRepository) {
+        this.roleRepository = roleRepository;
+    }
+
+    // Após o refresh do contexto o data.sql já foi executado
+    @EventListener(ContextRefreshedEvent.class)
+    public void reload() {
+        Map<String, Role> byName = roleRepository.findAll().stream()
+                .collect(Collectors.toMap(Role::getName, Function.identity()));
+        Map<Role.Values, Role> loaded = new EnumMap<>(Role.Values.class);
+        for (Role.Values value : Role.Values.values()) {
+            Role role = byName.get(value.name());
+            if (role == null) {
+                throw new IllegalStateException("Role " + value.name() + " is missing from TB_ROLES");
+            }
+            loaded.put(value, role);
+        }
+        roles = Collections.unmodifiableMap(loaded);
+    }
+
+    public Role get(Role.Values value) {
+        Role role = roles.get(value);
+        if (role == null) {
+            throw new IllegalStateException("Roles have not been loaded yet");
+        }
+        return role;
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidation invalidation) {
+        if (invalidation.type() == CacheInvalidation.Type.ALL) {
+            reload();
+        }
+    }
+}
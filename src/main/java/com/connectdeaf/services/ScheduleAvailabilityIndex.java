@@ -0,0 +1,381 @@
+package com.connectdeaf.services;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.connectdeaf.controllers.dtos.response.DayAvailabilityResponseDTO;
+import com.connectdeaf.controllers.dtos.response.ProfessionalResponseDTO;
+import com.connectdeaf.controllers.dtos.response.ScheduleResponseDTO;
+import com.connectdeaf.domain.professional.Professional;
+import com.connectdeaf.domain.schedule.Schedule;
+import com.connectdeaf.exceptions.ProfessionalNotFoundException;
+import com.connectdeaf.repositories.ProfessionalRepository;
+import com.connectdeaf.repositories.ScheduleRepository;
+import com.connectdeaf.repositories.projections.ProfessionalProjection;
+import com.connectdeaf.repositories.projections.ScheduleSlotProjection;
+import com.connectdeaf.services.invalidation.CacheInvalidation;
+import com.connectdeaf.services.invalidation.CacheInvalidationListener;
+
+// Cada dia é lido do banco uma vez e depois atualizado a cada marcação;
+// mudanças de outros nós chegam como invalidações e descartam o dia
+@Service
+public class ScheduleAvailabilityIndex implements CacheInvalidationListener {
+
+    private static final int MAX_CACHED_DAYS = 50_000;
+    private static final int VERSION_STRIPES = 64;
+
+    private final ProfessionalRepository professionalRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final ConcurrentHashMap<DayKey, DaySlots> days = new ConcurrentHashMap<>();
+    // Incrementado a cada mudança; carregamentos em lote só entram no índice se nada mudou durante a leitura
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    public ScheduleAvailabilityIndex(ProfessionalRepository professionalRepository,
+                                     ScheduleRepository scheduleRepository) {
+        this.professionalRepository = professionalRepository;
+        this.scheduleRepository = scheduleRepository;
+    }
+
+    public List<ScheduleResponseDTO> findAvailableSlots(UUID professionalId, LocalDate date) {
+        DayKey key = new DayKey(professionalId, date);
+        DaySlots slots = days.get(key);
+        if (slots == null) {
+            slots = loadDay(key, this::load);
+        }
+        return slots.freeSlots(professionalId, date);
+    }
+
+    // Profissional já carregado: um dia fora do índice lê só os horários
+    public List<ScheduleResponseDTO> findAvailableSlots(ProfessionalResponseDTO professional, LocalDate date) {
+        DayKey key = new DayKey(professional.id(), date);
+        DaySlots slots = days.get(key);
+        if (slots == null) {
+            slots = loadDay(key, missing -> load(missing, professional.workStartTime(),
+                    professional.workEndTime(), professional.breakDuration()));
+        }
+        return slots.freeSlots(professional.id(), date);
+    }
+
+    public List<DayAvailabilityResponseDTO> findAvailableSlots(UUID professionalId, LocalDate from, LocalDate to) {
+        List<DayAvailabilityResponseDTO> availability = findAvailableSlots(List.of(professionalId), from, to)
+                .get(professionalId);
+        if (availability == null) {
+            throw new ProfessionalNotFoundException();
+        }
+        return availability;
+    }
+
+    // Dias fora do índice saem de uma consulta para todos; profissionais removidos ficam de fora
+    public Map<UUID, List<DayAvailabilityResponseDTO>> findAvailableSlots(Collection<UUID> professionalIds,
+                                                                          LocalDate from, LocalDate to) {
+        // Versões lidas antes do banco: qualquer mudança durante a leitura descarta o carregamento
+        Map<UUID, Long> versionsBefore = new HashMap<>();
+        List<DayKey> missing = new ArrayList<>();
+        for (UUID professionalId : professionalIds) {
+            versionsBefore.put(professionalId, versions.get(versionStripe(professionalId)));
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                DayKey key = new DayKey(professionalId, date);
+                if (!days.containsKey(key)) {
+                    missing.add(key);
+                }
+            }
+        }
+
+        Map<DayKey, DaySlots> loaded = missing.isEmpty()
+                ? Collections.emptyMap()
+                : loadDays(missing, from, to, versionsBefore);
+        // Profissionais sem linha no banco (removidos) ficam fora do resultado
+        Set<UUID> unknown = missing.stream().map(DayKey::professionalId)
+                .collect(Collectors.toCollection(HashSet::new));
+        loaded.keySet().forEach(key -> unknown.remove(key.professionalId()));
+
+        Map<UUID, List<DayAvailabilityResponseDTO>> availability = new LinkedHashMap<>();
+        for (UUID professionalId : professionalIds) {
+            if (unknown.contains(professionalId)) {
+                continue;
+            }
+            List<DayAvailabilityResponseDTO> professionalDays = new ArrayList<>();
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                DayKey key = new DayKey(professionalId, date);
+                DaySlots slots = loaded.get(key);
+                if (slots == null) {
+                    slots = days.get(key);
+                }
+                if (slots == null) {
+                    // Removido do índice entre a verificação e a leitura
+                    slots = loadDay(key, this::load);
+                }
+                professionalDays.add(new DayAvailabilityResponseDTO(date, slots.freeSlots(professionalId, date)));
+            }
+            availability.put(professionalId, professionalDays);
+        }
+        return availability;
+    }
+
+    public boolean overlapsBooking(UUID professionalId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        DayKey key = new DayKey(professionalId, date);
+        DaySlots slots = days.get(key);
+        if (slots == null) {
+            slots = loadDay(key, this::load);
+        }
+        return slots.overlaps(startTime, endTime);
+    }
+
+    // Dias fora do índice são lidos do banco na próxima consulta
+    public void markBooked(UUID professionalId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        versions.incrementAndGet(versionStripe(professionalId));
+        days.computeIfPresent(new DayKey(professionalId, date), (key, slots) -> {
+            slots.book(startTime, endTime);
+            return slots;
+        });
+    }
+
+    public void markReleased(Schedule schedule) {
+        UUID professionalId = schedule.getProfessional().getId();
+        LocalDate date = schedule.getDate();
+        LocalTime startTime = schedule.getStartTime();
+        LocalTime endTime = schedule.getEndTime();
+        afterCommit(() -> {
+            versions.incrementAndGet(versionStripe(professionalId));
+            days.computeIfPresent(new DayKey(professionalId, date), (key, slots) -> {
+                slots.release(startTime, endTime);
+                return slots;
+            });
+        });
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidation invalidation) {
+        switch (invalidation.type()) {
+            case PROFESSIONAL -> evictProfessional(invalidation.professionalId());
+            case SCHEDULE -> evictDay(invalidation.professionalId(), invalidation.date());
+            case ALL -> evictAll();
+            case SERVICE, USER -> {
+                // Serviços e usuários não afetam a grade de horários
+            }
+        }
+    }
+
+    void evictProfessional(UUID professionalId) {
+        versions.incrementAndGet(versionStripe(professionalId));
+        days.keySet().removeIf(key -> key.professionalId().equals(professionalId));
+    }
+
+    void evictDay(UUID professionalId, LocalDate date) {
+        versions.incrementAndGet(versionStripe(professionalId));
+        days.remove(new DayKey(professionalId, date));
+    }
+
+    private void evictAll() {
+        for (int i = 0; i < VERSION_STRIPES; i++) {
+            versions.incrementAndGet(i);
+        }
+        days.clear();
+    }
+
+    private DaySlots load(DayKey key) {
+        Professional professional = professionalRepository.findById(key.professionalId())
+                .orElseThrow(ProfessionalNotFoundException::new);
+        return load(key, professional.getWorkStartTime(), professional.getWorkEndTime(),
+                professional.getBreakDuration());
+    }
+
+    private DaySlots load(DayKey key, LocalTime workStartTime, LocalTime workEndTime, Duration breakDuration) {
+        DaySlots slots = new DaySlots(workStartTime, workEndTime, breakDuration);
+        for (Schedule schedule : scheduleRepository.findByProfessionalIdAndDate(key.professionalId(), key.date())) {
+            slots.book(schedule.getStartTime(), schedule.getEndTime());
+        }
+        return slots;
+    }
+
+    private Map<DayKey, DaySlots> loadDays(List<DayKey> missing, LocalDate from, LocalDate to,
+                                           Map<UUID, Long> versionsBefore) {
+        Set<UUID> professionalIds = missing.stream().map(DayKey::professionalId).collect(Collectors.toSet());
+        Map<UUID, ProfessionalProjection> professionals = professionalRepository.findProjectionsByIdIn(professionalIds)
+                .stream()
+                .collect(Collectors.toMap(ProfessionalProjection::id, Function.identity()));
+        if (professionals.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<DayKey, List<ScheduleSlotProjection>> bookedByDay = scheduleRepository
+                .findSlotsByProfessionalIdInAndDateBetween(professionals.keySet(), from, to)
+                .stream()
+                .collect(Collectors.groupingBy(slot -> new DayKey(slot.professionalId(), slot.date())));
+
+        Map<DayKey, DaySlots> loaded = new HashMap<>();
+        for (DayKey key : missing) {
+            ProfessionalProjection professional = professionals.get(key.professionalId());
+            if (professional == null) {
+                continue;
+            }
+            DaySlots built = new DaySlots(professional.workStartTime(), professional.workEndTime(),
+                    professional.breakDuration());
+            for (ScheduleSlotProjection slot : bookedByDay.getOrDefault(key, Collections.emptyList())) {
+                built.book(slot.startTime(), slot.endTime());
+            }
+            loaded.put(key, cacheIfUnchanged(key, built, versionsBefore.get(key.professionalId())));
+        }
+        evictIfFull();
+        return loaded;
+    }
+
+    // O banco é lido fora do lock do mapa: com threads virtuais, bloquear em JDBC ali prende a thread portadora
+    private DaySlots loadDay(DayKey key, Function<DayKey, DaySlots> loader) {
+        long version = versions.get(versionStripe(key.professionalId()));
+        DaySlots slots = cacheIfUnchanged(key, loader.apply(key), version);
+        evictIfFull();
+        return slots;
+    }
+
+    // Comparar a versão dentro do compute serializa com markBooked/markReleased da mesma chave
+    private DaySlots cacheIfUnchanged(DayKey key, DaySlots built, long version) {
+        DaySlots cached = days.compute(key, (dayKey, existing) -> {
+            if (existing != null) {
+                return existing;
+            }
+            return versions.get(versionStripe(dayKey.professionalId())) == version ? built : null;
+        });
+        return cached != null ? cached : built;
+    }
+
+    private int versionStripe(UUID professionalId) {
+        return Math.floorMod(professionalId.hashCode(), VERSION_STRIPES);
+    }
+
+    private void evictIfFull() {
+        if (days.size() <= MAX_CACHED_DAYS) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        days.keySet().removeIf(key -> key.date().isBefore(today));
+        if (days.size() > MAX_CACHED_DAYS) {
+            days.clear();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record DayKey(UUID professionalId, LocalDate date) {
+    }
+
+    // Bit i ligado enquanto alguma reserva cruza o slot i
+    static final class DaySlots {
+        private final LocalTime firstStart;
+        private final long slotNanos;
+        private final int slotCount;
+        private final BitSet occupied;
+        // Sem duplicatas: a mesma reserva pode chegar pelo carregamento e pela marcação
+        private final ScheduleIntervals bookings = new ScheduleIntervals();
+
+        DaySlots(LocalTime workStartTime, LocalTime workEndTime, Duration slotDuration) {
+            this.firstStart = workStartTime;
+            this.slotNanos = slotDuration == null ? 0 : slotDuration.toNanos();
+            this.slotCount = countSlots(workStartTime, workEndTime, slotDuration);
+            this.occupied = new BitSet(slotCount);
+        }
+
+        synchronized void book(LocalTime startTime, LocalTime endTime) {
+            if (bookings.add(startTime, endTime)) {
+                occupy(startTime, endTime);
+            }
+        }
+
+        synchronized void release(LocalTime startTime, LocalTime endTime) {
+            if (!bookings.remove(startTime, endTime) || slotCount == 0) {
+                return;
+            }
+            int from = firstSlot(startTime);
+            int to = endSlot(endTime);
+            if (from >= to) {
+                return;
+            }
+            occupied.clear(from, to);
+            // Reocupa apenas os blocos ainda reservados que cruzam os slots liberados
+            bookings.forEachOverlapping(slotStart(from), slotStart(to), this::occupy);
+        }
+
+        synchronized boolean overlaps(LocalTime startTime, LocalTime endTime) {
+            return bookings.overlaps(startTime, endTime);
+        }
+
+        synchronized List<ScheduleResponseDTO> freeSlots(UUID professionalId, LocalDate date) {
+            if (slotCount == 0) {
+                return Collections.emptyList();
+            }
+            List<ScheduleResponseDTO> free = new ArrayList<>(slotCount - occupied.cardinality());
+            for (int i = occupied.nextClearBit(0); i < slotCount; i = occupied.nextClearBit(i + 1)) {
+                LocalTime startTime = slotStart(i);
+                free.add(new ScheduleResponseDTO(null, professionalId, date, startTime,
+                        startTime.plusNanos(slotNanos)));
+            }
+            return free;
+        }
+
+        private void occupy(LocalTime startTime, LocalTime endTime) {
+            if (slotCount == 0) {
+                return;
+            }
+            int from = firstSlot(startTime);
+            int to = endSlot(endTime);
+            if (from < to) {
+                occupied.set(from, to);
+            }
+        }
+
+        private LocalTime slotStart(int slot) {
+            return firstStart.plusNanos(slot * slotNanos);
+        }
+
+        // Primeiro slot que termina depois de startTime
+        private int firstSlot(LocalTime startTime) {
+            long offset = startTime.toNanoOfDay() - firstStart.toNanoOfDay();
+            return offset <= 0 ? 0 : (int) Math.min(offset / slotNanos, slotCount);
+        }
+
+        // Índice exclusivo: slots que começam antes de endTime
+        private int endSlot(LocalTime endTime) {
+            long offset = endTime.toNanoOfDay() - firstStart.toNanoOfDay();
+            return offset <= 0 ? 0 : (int) Math.min((offset + slotNanos - 1) / slotNanos, slotCount);
+        }
+
+        private static int countSlots(LocalTime workStartTime, LocalTime workEndTime, Duration slotDuration) {
+            if (workStartTime == null || workEndTime == null || slotDuration == null
+                    || slotDuration.isZero() || slotDuration.isNegative()) {
+                return 0;
+            }
+            long available = workEndTime.toNanoOfDay() - workStartTime.toNanoOfDay();
+            return available <= 0 ? 0 : (int) (available / slotDuration.toNanos());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.connectdeaf.services;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.connectdeaf.domain.professional.Professional;
+import com.connectdeaf.domain.schedule.Schedule;
+import com.connectdeaf.exceptions.InvalidScheduleException;
+import com.connectdeaf.exceptions.ScheduleConflictException;
+import com.connectdeaf.repositories.ScheduleRepository;
+import com.connectdeaf.services.invalidation.CacheInvalidation;
+import com.connectdeaf.services.invalidation.CacheInvalidationBus;
+
+// Reservas do mesmo profissional seguram a mesma faixa de lock até o commit; entre nós,
+// a chave única (e o EXCLUDE no Postgres) recusa quem confirmar depois
+@Service
+public class ScheduleBookingService {
+
+    private static final int LOCK_STRIPES = 64;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MILLIS = 10;
+
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleAvailabilityIndex availabilityIndex;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final TransactionTemplate transactionTemplate;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    public ScheduleBookingService(ScheduleRepository scheduleRepository, ScheduleAvailabilityIndex availabilityIndex,
+                                  CacheInvalidationBus cacheInvalidationBus,
+                                  PlatformTransactionManager transactionManager) {
+        this.scheduleRepository = scheduleRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    // Quem cruza uma reserva já no índice falha antes de esperar pelo lock
+    public <T> T book(UUID professionalId, LocalDate date, LocalTime startTime, LocalTime endTime,
+                      Supplier<T> booking) {
+        if (startTime.isBefore(endTime)
+                && availabilityIndex.overlapsBooking(professionalId, date, startTime, endTime)) {
+            throw new ScheduleConflictException();
+        }
+
+        ReentrantLock lock = locks[Math.floorMod(professionalId.hashCode(), LOCK_STRIPES)];
+        lock.lock();
+        try {
+            T booked = executeWithRetry(booking);
+            availabilityIndex.markBooked(professionalId, date, startTime, endTime);
+            return booked;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Só dentro de book(...), com o lock do profissional
+    public Schedule reserveSlot(Professional professional, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        if (!startTime.isBefore(endTime)) {
+            throw new InvalidScheduleException();
+        }
+        if (scheduleRepository.existsOverlapping(professional.getId(), date, startTime, endTime)) {
+            throw new ScheduleConflictException();
+        }
+        Schedule reserved = scheduleRepository.saveAndFlush(new Schedule(null, professional, date, startTime, endTime));
+        cacheInvalidationBus.publishToOtherNodes(CacheInvalidation.schedule(professional.getId(), date));
+        return reserved;
+    }
+
+    public void releaseSlot(Schedule schedule) {
+        scheduleRepository.delete(schedule);
+        availabilityIndex.markReleased(schedule);
+        cacheInvalidationBus.publishToOtherNodes(CacheInvalidation.schedule(schedule.getProfessional().getId(),
+                schedule.getDate()));
+    }
+
+    private <T> T executeWithRetry(Supplier<T> booking) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> booking.get());
+            } catch (DataIntegrityViolationException e) {
+                if (isSlotConstraint(e)) {
+                    throw new ScheduleConflictException();
+                }
+                throw e;
+            } catch (TransientDataAccessException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+                backOff(attempt);
+            }
+        }
+    }
+
+    private boolean isSlotConstraint(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase().contains("schedule_professional");
+    }
+
+    private void backOff(int attempt) {
+        try {
+            Thread.sleep(RETRY_BACKOFF_MILLIS * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
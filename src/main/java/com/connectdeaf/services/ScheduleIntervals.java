@@ -0,0 +1,89 @@
+package com.connectdeaf.services;
+
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+
+// Mantém a união das reservas em blocos disjuntos: a sobreposição é um floor O(log n). Não é thread-safe
+public final class ScheduleIntervals {
+
+    private final TreeSet<Interval> bookings = new TreeSet<>();
+    private final TreeMap<LocalTime, LocalTime> blocks = new TreeMap<>();
+
+    // false se já existia ou é vazio
+    public boolean add(LocalTime startTime, LocalTime endTime) {
+        if (!startTime.isBefore(endTime) || !bookings.add(new Interval(startTime, endTime))) {
+            return false;
+        }
+        merge(startTime, endTime);
+        return true;
+    }
+
+    public boolean remove(LocalTime startTime, LocalTime endTime) {
+        if (!bookings.remove(new Interval(startTime, endTime))) {
+            return false;
+        }
+        Map.Entry<LocalTime, LocalTime> block = blocks.floorEntry(startTime);
+        blocks.remove(block.getKey());
+        // Só o bloco que continha a reserva muda: refaz a união com as reservas que começam nele
+        for (Interval booking : bookings.subSet(new Interval(block.getKey(), LocalTime.MIN), true,
+                new Interval(block.getValue(), LocalTime.MIN), false)) {
+            merge(booking.startTime(), booking.endTime());
+        }
+        return true;
+    }
+
+    public boolean overlaps(LocalTime startTime, LocalTime endTime) {
+        Map.Entry<LocalTime, LocalTime> block = blocks.lowerEntry(endTime);
+        return block != null && block.getValue().isAfter(startTime);
+    }
+
+    public void forEachOverlapping(LocalTime startTime, LocalTime endTime, BiConsumer<LocalTime, LocalTime> action) {
+        LocalTime from = blocks.floorKey(startTime);
+        NavigableMap<LocalTime, LocalTime> candidates = blocks.headMap(endTime, false);
+        if (from != null) {
+            candidates = candidates.tailMap(from, true);
+        }
+        candidates.forEach((blockStart, blockEnd) -> {
+            if (blockEnd.isAfter(startTime)) {
+                action.accept(blockStart, blockEnd);
+            }
+        });
+    }
+
+    public int size() {
+        return bookings.size();
+    }
+
+    private void merge(LocalTime startTime, LocalTime endTime) {
+        LocalTime mergedStart = startTime;
+        LocalTime mergedEnd = endTime;
+        // Blocos são disjuntos: basta andar para trás enquanto o anterior ainda cruza o novo intervalo
+        Map.Entry<LocalTime, LocalTime> block = blocks.lowerEntry(endTime);
+        while (block != null && block.getValue().isAfter(startTime)) {
+            if (block.getKey().isBefore(mergedStart)) {
+                mergedStart = block.getKey();
+            }
+            if (block.getValue().isAfter(mergedEnd)) {
+                mergedEnd = block.getValue();
+            }
+            blocks.remove(block.getKey());
+            block = blocks.lowerEntry(endTime);
+        }
+        blocks.put(mergedStart, mergedEnd);
+    }
+
+    private record Interval(LocalTime startTime, LocalTime endTime) implements Comparable<Interval> {
+        private static final Comparator<Interval> ORDER = Comparator.comparing(Interval::startTime)
+                .thenComparing(Interval::endTime);
+
+        @Override
+        public int compareTo(Interval other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
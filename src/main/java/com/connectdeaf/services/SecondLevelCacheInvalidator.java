@@ -0,0 +1,49 @@
+package com.connectdeaf.services;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Service;
+
+import com.connectdeaf.domain.address.Address;
+import com.connectdeaf.domain.professional.Professional;
+import com.connectdeaf.domain.user.User;
+import com.connectdeaf.services.invalidation.CacheInvalidation;
+import com.connectdeaf.services.invalidation.CacheInvalidationListener;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// O Hibernate já atualiza o cache local; aqui só cai o que outro nó mudou. Papéis nunca saem
+@Service
+public class SecondLevelCacheInvalidator implements CacheInvalidationListener {
+
+    private final Cache cache;
+
+    public SecondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidation invalidation) {
+        switch (invalidation.type()) {
+            case PROFESSIONAL -> cache.evictEntityData(Professional.class, invalidation.professionalId());
+            case USER -> {
+                cache.evictEntityData(User.class, invalidation.id());
+                cache.evictCollectionData(User.class.getName() + ".addresses", invalidation.id());
+                cache.evictCollectionData(User.class.getName() + ".roles", invalidation.id());
+                // Os ids dos endereços removidos não viajam na mensagem
+                cache.evictEntityData(Address.class);
+            }
+            case ALL -> {
+                cache.evictEntityData(Professional.class);
+                cache.evictEntityData(User.class);
+                cache.evictEntityData(Address.class);
+                cache.evictCollectionData(User.class.getName() + ".addresses");
+                cache.evictCollectionData(User.class.getName() + ".roles");
+                cache.evictQueryRegions();
+            }
+            case SERVICE, SCHEDULE -> {
+                // Serviços e agenda não estão no cache de segundo nível
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.connectdeaf.services;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Service;
+
+import com.connectdeaf.controllers.dtos.response.ServiceSuggestionResponseDTO;
+import com.connectdeaf.repositories.ServiceRepository;
+import com.connectdeaf.repositories.projections.ServiceNameProjection;
+import com.connectdeaf.services.invalidation.CacheInvalidation;
+import com.connectdeaf.services.invalidation.CacheInvalidationListener;
+
+// Todos os nomes são lidos na primeira sugestão; depois, só os serviços criados ou removidos
+@Service
+public class ServiceAutocompleteIndex implements CacheInvalidationListener {
+
+    private final ServiceRepository serviceRepository;
+    private final ServiceNamePrefixes prefixes = new ServiceNamePrefixes();
+    // ReentrantLock em vez de synchronized: a carga faz JDBC e não deve prender a thread portadora
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile boolean loaded;
+
+    public ServiceAutocompleteIndex(ServiceRepository serviceRepository) {
+        this.serviceRepository = serviceRepository;
+    }
+
+    public List<ServiceSuggestionResponseDTO> suggest(String query, int limit) {
+        if (!loaded) {
+            load();
+        }
+        return prefixes.suggest(query, limit);
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidation invalidation) {
+        switch (invalidation.type()) {
+            case SERVICE -> refresh(invalidation.id());
+            // A remoção do profissional leva seus serviços junto; recarrega na próxima consulta
+            case PROFESSIONAL, ALL -> reset();
+            case SCHEDULE, USER -> {
+                // Agenda e usuários não afetam nomes de serviços
+            }
+        }
+    }
+
+    private void load() {
+        lock.lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            for (ServiceNameProjection service : serviceRepository.findAllNames()) {
+                prefixes.put(service.id(), service.name());
+            }
+            loaded = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Mesmo lock de load(): uma mudança confirmada durante a carga é aplicada logo depois dela
+    private void refresh(UUID serviceId) {
+        lock.lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            List<ServiceNameProjection> current = serviceRepository.findNamesByIdIn(List.of(serviceId));
+            if (current.isEmpty()) {
+                prefixes.remove(serviceId);
+            } else {
+                prefixes.put(serviceId, current.get(0).name());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void reset() {
+        lock.lock();
+        try {
+            loaded = false;
+            prefixes.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
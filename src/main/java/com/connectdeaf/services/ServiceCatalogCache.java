@@ -0,0 +1,106 @@
+package com.connectdeaf.services;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.connectdeaf.controllers.dtos.response.ServiceResponseDTO;
+import com.connectdeaf.services.invalidation.CacheInvalidation;
+import com.connectdeaf.services.invalidation.CacheInvalidationListener;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// O despejo não cancela cargas em andamento: uma carga que leu antes do commit pode gravar
+// depois do despejo, e a entrada fica desatualizada até a próxima invalidação ou o TTL
+@Service
+public class ServiceCatalogCache implements CacheInvalidationListener {
+
+    private static final String CATALOG_KEY = "all";
+
+    private final Cache<String, List<ServiceResponseDTO>> catalog;
+    private final Cache<UUID, ServiceResponseDTO> servicesById;
+    private final Cache<UUID, List<ServiceResponseDTO>> servicesByProfessional;
+
+    public ServiceCatalogCache(MeterRegistry meterRegistry,
+                               @Value("${connectdeaf.cache.services.max-size:10000}") long maxSize,
+                               @Value("${connectdeaf.cache.services.ttl:PT5M}") Duration ttl) {
+        this.catalog = build(meterRegistry, "serviceCatalog", 1, ttl);
+        this.servicesById = build(meterRegistry, "services", maxSize, ttl);
+        this.servicesByProfessional = build(meterRegistry, "professionalServices", maxSize, ttl);
+    }
+
+    public List<ServiceResponseDTO> getCatalog(Supplier<List<ServiceResponseDTO>> loader) {
+        return get(catalog, CATALOG_KEY, key -> List.copyOf(loader.get()));
+    }
+
+    public ServiceResponseDTO getService(UUID serviceId, Function<UUID, ServiceResponseDTO> loader) {
+        return get(servicesById, serviceId, loader);
+    }
+
+    public List<ServiceResponseDTO> getServicesByProfessional(UUID professionalId,
+                                                              Function<UUID, List<ServiceResponseDTO>> loader) {
+        return get(servicesByProfessional, professionalId, id -> List.copyOf(loader.apply(id)));
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidation invalidation) {
+        switch (invalidation.type()) {
+            case SERVICE -> evictService(invalidation.id(), invalidation.professionalId());
+            case PROFESSIONAL -> evictProfessional(invalidation.professionalId());
+            case ALL -> {
+                servicesById.invalidateAll();
+                servicesByProfessional.invalidateAll();
+                catalog.invalidateAll();
+            }
+            case SCHEDULE, USER -> {
+                // Agenda e usuários são invalidados por PROFESSIONAL quando aparecem no catálogo
+            }
+        }
+    }
+
+    void evictService(UUID serviceId, UUID professionalId) {
+        servicesById.invalidate(serviceId);
+        servicesByProfessional.invalidate(professionalId);
+        catalog.invalidateAll();
+    }
+
+    void evictProfessional(UUID professionalId) {
+        servicesById.asMap().values()
+                .removeIf(service -> service.professional() != null
+                        && professionalId.equals(service.professional().id()));
+        servicesByProfessional.invalidate(professionalId);
+        catalog.invalidateAll();
+    }
+
+    // Cache.get(key, loader) roda o loader dentro do lock do mapa; com threads virtuais o JDBC ali
+    // prende a thread portadora. Carrega fora e, se outra carga chegou antes, fica com a dela.
+    private static <K, V> V get(Cache<K, V> cache, K key, Function<K, V> loader) {
+        V cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        V loaded = loader.apply(key);
+        if (loaded == null) {
+            return null;
+        }
+        V raced = cache.asMap().putIfAbsent(key, loaded);
+        return raced != null ? raced : loaded;
+    }
+
+    private static <K, V> Cache<K, V> build(MeterRegistry meterRegistry, String name, long maxSize, Duration ttl) {
+        Cache<K, V> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+}
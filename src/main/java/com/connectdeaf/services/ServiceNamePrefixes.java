@@ -0,0 +1,110 @@
+package com.connectdeaf.services;
+
+import java.text.Normalizer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import com.connectdeaf.controllers.dtos.response.ServiceSuggestionResponseDTO;
+
+// Cada nome entra inteiro e a partir de cada palavra ("lib" acha "Aula de Libras").
+// Leituras podem rodar junto com uma escrita; escritas devem ser serializadas
+public final class ServiceNamePrefixes {
+
+    private static final char ID_SEPARATOR = '\u0000';
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    // Palavras de ligação não iniciam sugestões: "de" não deve trazer todo "Aula de ..."
+    private static final Set<String> STOP_WORDS = Set.of("a", "o", "as", "os", "e", "de", "da", "do", "das", "dos",
+            "em", "na", "no", "nas", "nos", "para", "por", "com");
+
+    private final NavigableMap<String, ServiceSuggestionResponseDTO> names = new ConcurrentSkipListMap<>();
+    private final NavigableMap<String, ServiceSuggestionResponseDTO> words = new ConcurrentSkipListMap<>();
+    private final Map<UUID, String> indexed = new ConcurrentHashMap<>();
+
+    public void put(UUID serviceId, String name) {
+        remove(serviceId);
+        String normalized = normalize(name);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        ServiceSuggestionResponseDTO suggestion = new ServiceSuggestionResponseDTO(serviceId, name);
+        indexed.put(serviceId, normalized);
+        names.put(key(normalized, serviceId), suggestion);
+        forEachWordStart(normalized, word -> words.put(key(word, serviceId), suggestion));
+    }
+
+    public void remove(UUID serviceId) {
+        String normalized = indexed.remove(serviceId);
+        if (normalized == null) {
+            return;
+        }
+        names.remove(key(normalized, serviceId));
+        forEachWordStart(normalized, word -> words.remove(key(word, serviceId)));
+    }
+
+    public void clear() {
+        indexed.clear();
+        names.clear();
+        words.clear();
+    }
+
+    public int size() {
+        return indexed.size();
+    }
+
+    // Nomes que começam com a consulta primeiro, depois os que têm uma palavra que começa com ela
+    public List<ServiceSuggestionResponseDTO> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Map<UUID, ServiceSuggestionResponseDTO> found = new LinkedHashMap<>();
+        collect(names, prefix, limit, found);
+        collect(words, prefix, limit, found);
+        return List.copyOf(found.values());
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String withoutMarks = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(withoutMarks).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static void collect(NavigableMap<String, ServiceSuggestionResponseDTO> index, String prefix, int limit,
+                                Map<UUID, ServiceSuggestionResponseDTO> found) {
+        for (ServiceSuggestionResponseDTO suggestion : index
+                .subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            if (found.size() >= limit) {
+                return;
+            }
+            found.putIfAbsent(suggestion.id(), suggestion);
+        }
+    }
+
+    // Sufixos do nome a partir de cada palavra depois da primeira
+    private static void forEachWordStart(String normalized, Consumer<String> action) {
+        for (int space = normalized.indexOf(' '); space >= 0; space = normalized.indexOf(' ', space + 1)) {
+            String suffix = normalized.substring(space + 1);
+            int end = suffix.indexOf(' ');
+            if (!STOP_WORDS.contains(end < 0 ? suffix : suffix.substring(0, end))) {
+                action.accept(suffix);
+            }
+        }
+    }
+
+    // O id desempata nomes iguais; o separador ordena antes de qualquer letra
+    private static String key(String normalized, UUID serviceId) {
+        return normalized + ID_SEPARATOR + serviceId;
+    }
+}
@@ -0,0 +1,58 @@
+package com.connectdeaf.services;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.connectdeaf.controllers.dtos.response.ProfessionalResponseDTO;
+import com.connectdeaf.controllers.dtos.response.ServiceResponseDTO;
+import com.connectdeaf.repositories.projections.ServiceProjection;
+
+@Service
+public class ServiceResponseAssembler {
+
+    private final ProfessionalResponseAssembler professionalResponseAssembler;
+
+    public ServiceResponseAssembler(ProfessionalResponseAssembler professionalResponseAssembler) {
+        this.professionalResponseAssembler = professionalResponseAssembler;
+    }
+
+    public List<ServiceResponseDTO> toResponseDTOs(List<ServiceProjection> services) {
+        if (services.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Set<UUID> professionalIds = services.stream()
+                .map(ServiceProjection::professionalId)
+                .collect(Collectors.toSet());
+        Map<UUID, ProfessionalResponseDTO> professionalDTOs = professionalResponseAssembler
+                .findResponseDTOs(professionalIds);
+
+        return services.stream()
+                .map(service -> new ServiceResponseDTO(
+                        service.id(),
+                        service.name(),
+                        service.description(),
+                        service.value(),
+                        professionalDTOs.get(service.professionalId())))
+                .collect(Collectors.toList());
+    }
+
+    // Profissional já carregado pelo chamador: nada mais é lido
+    public List<ServiceResponseDTO> toResponseDTOs(List<ServiceProjection> services,
+                                                   ProfessionalResponseDTO professional) {
+        return services.stream()
+                .map(service -> new ServiceResponseDTO(
+                        service.id(),
+                        service.name(),
+                        service.description(),
+                        service.value(),
+                        professional))
+                .collect(Collectors.toList());
+    }
+}
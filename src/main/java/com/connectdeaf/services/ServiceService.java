@@ -1,17 +1,30 @@
 package com.connectdeaf.services;
 
+import com.connectdeaf.domain.service.ServiceCursor;
 import com.connectdeaf.domain.service.ServiceEntity;
+import com.connectdeaf.domain.service.ServiceSort;
 import com.connectdeaf.domain.professional.Professional;
 import com.connectdeaf.repositories.ProfessionalRepository;
 import com.connectdeaf.repositories.ServiceRepository;
+import com.connectdeaf.repositories.ServiceSearchCriteria;
+import com.connectdeaf.repositories.projections.FacetCount;
+import com.connectdeaf.repositories.projections.ServiceProjection;
 import com.connectdeaf.controllers.dtos.requests.ServiceRequestDTO;
+import com.connectdeaf.controllers.dtos.response.FacetCountResponseDTO;
+import com.connectdeaf.controllers.dtos.response.ServiceFacetsResponseDTO;
+import com.connectdeaf.controllers.dtos.response.ServicePageResponseDTO;
 import com.connectdeaf.controllers.dtos.response.ServiceResponseDTO;
+import com.connectdeaf.controllers.dtos.response.ServiceSuggestionResponseDTO;
 import com.connectdeaf.controllers.dtos.response.ProfessionalResponseDTO;
+import com.connectdeaf.exceptions.InvalidPageException;
 import com.connectdeaf.exceptions.ProfessionalNotFoundException;
 import com.connectdeaf.exceptions.ServiceNotFoundException;
+import com.connectdeaf.services.invalidation.CacheInvalidation;
+import com.connectdeaf.services.invalidation.CacheInvalidationBus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import jakarta.transaction.Transactional;
-import org.springframework.data.jpa.domain.Specification;
 import com.connectdeaf.controllers.dtos.response.AddressResponseDTO;
 
 import java.util.*;
@@ -20,12 +33,33 @@ import java.util.stream.Collectors;
 @Service
 public class ServiceService {
 
+    private static final int MAX_SEARCH_RESULTS = 50;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SUGGESTIONS = 20;
+    // page * size cabe em um int e o OFFSET continua razoável; além disso, cursor
+    private static final int MAX_PAGE = 10_000;
+
     private final ServiceRepository serviceRepository;
     private final ProfessionalRepository professionalRepository;
-
-    public ServiceService(ServiceRepository serviceRepository, ProfessionalRepository professionalRepository) {
+    private final ServiceResponseAssembler serviceResponseAssembler;
+    private final ServiceCatalogCache serviceCatalogCache;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final ServiceAutocompleteIndex serviceAutocompleteIndex;
+    private final TransactionTemplate loadTransaction;
+
+    public ServiceService(ServiceRepository serviceRepository, ProfessionalRepository professionalRepository,
+            ServiceResponseAssembler serviceResponseAssembler, ServiceCatalogCache serviceCatalogCache,
+            CacheInvalidationBus cacheInvalidationBus, ServiceAutocompleteIndex serviceAutocompleteIndex,
+            PlatformTransactionManager transactionManager) {
         this.serviceRepository = serviceRepository;
         this.professionalRepository = professionalRepository;
+        this.serviceResponseAssembler = serviceResponseAssembler;
+        this.serviceCatalogCache = serviceCatalogCache;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.serviceAutocompleteIndex = serviceAutocompleteIndex;
+        // Só as faltas no cache abrem transação (e pegam conexão); os acertos não tocam o banco
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setReadOnly(true);
     }
 
     @Transactional
@@ -41,6 +75,7 @@ public class ServiceService {
         serviceEntity.setProfessional(professional);
 
         ServiceEntity savedService = serviceRepository.save(serviceEntity);
+        cacheInvalidationBus.publish(CacheInvalidation.service(savedService.getId(), professionalId));
 
         return new ServiceResponseDTO(
                 savedService.getId(),
@@ -50,29 +85,17 @@ public class ServiceService {
                 mapToProfessionalResponseDTO(savedService.getProfessional()));
     }
 
-    @Transactional
     public ServiceResponseDTO findServiceById(UUID serviceId) {
-        ServiceEntity serviceEntity = serviceRepository.findById(serviceId)
-                .orElseThrow(() -> new ServiceNotFoundException());
-
-        return new ServiceResponseDTO(
-                serviceEntity.getId(),
-                serviceEntity.getName(),
-                serviceEntity.getDescription(),
-                serviceEntity.getValue(),
-                mapToProfessionalResponseDTO(serviceEntity.getProfessional()));
+        return serviceCatalogCache.getService(serviceId, id -> loadTransaction.execute(
+                status -> serviceResponseAssembler.toResponseDTOs(serviceRepository.findProjectionsByIdIn(List.of(id)))
+                        .stream()
+                        .findFirst()
+                        .orElseThrow(() -> new ServiceNotFoundException())));
     }
 
-    @Transactional
     public List<ServiceResponseDTO> findAllServices() {
-        return serviceRepository.findAll().stream()
-                .map(service -> new ServiceResponseDTO(
-                        service.getId(),
-                        service.getName(),
-                        service.getDescription(),
-                        service.getValue(),
-                        mapToProfessionalResponseDTO(service.getProfessional())))
-                .collect(Collectors.toList());
+        return serviceCatalogCache.getCatalog(() -> loadTransaction.execute(
+                status -> serviceResponseAssembler.toResponseDTOs(serviceRepository.findAllProjections())));
     }
 
     @Transactional
@@ -80,52 +103,96 @@ public class ServiceService {
         ServiceEntity serviceEntity = serviceRepository.findById(serviceId)
                 .orElseThrow(() -> new ServiceNotFoundException());
         serviceRepository.delete(serviceEntity);
-        }
+        cacheInvalidationBus.publish(CacheInvalidation.service(serviceId, serviceEntity.getProfessional().getId()));
+    }
 
-    @Transactional
-    public List<ServiceEntity> findServices(String name, String city, String state) {
-        Specification<ServiceEntity> spec = Specification.where(null);
+    public List<ServiceSuggestionResponseDTO> autocompleteServices(String query, int limit) {
+        return serviceAutocompleteIndex.suggest(query, Math.min(Math.max(limit, 1), MAX_SUGGESTIONS));
+    }
 
-        if (name != null && !name.isEmpty()) {
-            spec = spec.and(nameContains(name));
-        }
-        if (city != null && !city.isEmpty()) {
-            spec = spec.and(cityContains(city));
+    // Com cursor (keyset) no lugar de page, as páginas seguintes dispensam o total e as facetas
+    @Transactional
+    public ServicePageResponseDTO searchCatalog(String name, String city, String state, String areaOfExpertise,
+            Double minPrice, Double maxPrice, String sort, String cursor, int page, int size) {
+        ServiceSearchCriteria criteria = new ServiceSearchCriteria(name, city, state, areaOfExpertise, minPrice,
+                maxPrice);
+        ServiceSort serviceSort = ServiceSort.fromParameter(sort);
+        ServiceCursor after = cursor == null || cursor.isBlank() ? null : ServiceCursor.decode(cursor, serviceSort);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int pageNumber = after != null ? 0 : Math.max(page, 0);
+        if (pageNumber > MAX_PAGE) {
+            throw new InvalidPageException(MAX_PAGE);
         }
-        if (state != null && !state.isEmpty()) {
-            spec = spec.and(stateContains(state));
+        int offset = pageNumber * pageSize;
+
+        // Uma linha a mais revela se há próxima página
+        List<ServiceProjection> rows = serviceRepository.findCatalogPage(criteria, serviceSort, after, offset,
+                pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<ServiceProjection> services = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext
+                ? ServiceCursor.of(serviceSort, services.get(pageSize - 1)).encode()
+                : null;
+        List<ServiceResponseDTO> content = serviceResponseAssembler.toResponseDTOs(services);
+        if (after != null) {
+            return new ServicePageResponseDTO(content, pageNumber, pageSize, null, null, nextCursor);
         }
 
-        return serviceRepository.findAll(spec);
-    }
+        // Página incompleta já revela o total sem a consulta de contagem
+        long totalElements = !hasNext && (pageNumber == 0 || !services.isEmpty())
+                ? offset + services.size()
+                : serviceRepository.countCatalog(criteria);
 
-    private Specification<ServiceEntity> nameContains(String name) {
-        return (root, query, criteriaBuilder) -> criteriaBuilder.like(root.get("name"), "%" + name + "%");
+        ServiceFacetsResponseDTO facets = new ServiceFacetsResponseDTO(
+                toFacetDTOs(serviceRepository.countByState(criteria)),
+                toFacetDTOs(serviceRepository.countByCity(criteria)),
+                toFacetDTOs(serviceRepository.countByAreaOfExpertise(criteria)),
+                toFacetDTOs(serviceRepository.countByPriceBand(criteria)));
+
+        return new ServicePageResponseDTO(content, pageNumber, pageSize, totalElements, facets, nextCursor);
     }
 
-    private Specification<ServiceEntity> cityContains(String city) {
-        return (root, query, criteriaBuilder) -> criteriaBuilder.like(root.join("professional").get("city"),
-                "%" + city + "%");
+    @Transactional
+    public List<ServiceResponseDTO> searchServices(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return Collections.emptyList();
+        }
+        List<UUID> rankedIds = serviceRepository.searchIdsByRelevance(query.trim(),
+                Math.min(Math.max(limit, 1), MAX_SEARCH_RESULTS));
+        if (rankedIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // O IN não preserva a ordem de relevância; reordena pelos ids ranqueados
+        Map<UUID, ServiceProjection> servicesById = serviceRepository.findProjectionsByIdIn(rankedIds).stream()
+                .collect(Collectors.toMap(ServiceProjection::id, service -> service));
+        List<ServiceProjection> ranked = rankedIds.stream()
+                .map(servicesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return serviceResponseAssembler.toResponseDTOs(ranked);
     }
 
-    private Specification<ServiceEntity> stateContains(String state) {
-        return (root, query, criteriaBuilder) -> criteriaBuilder.like(root.join("professional").get("state"),
-                "%" + state + "%");
+    private List<FacetCountResponseDTO> toFacetDTOs(List<FacetCount> counts) {
+        return counts.stream()
+                .map(count -> new FacetCountResponseDTO(count.value(), count.count()))
+                .toList();
     }
 
-    @Transactional
     public List<ServiceResponseDTO> findServicesByProfessional(UUID professionalId) {
-        Professional professional = professionalRepository.findById(professionalId)
-                .orElseThrow(() -> new ProfessionalNotFoundException());
+        return serviceCatalogCache.getServicesByProfessional(professionalId, id -> loadTransaction.execute(status -> {
+            if (!professionalRepository.existsById(id)) {
+                throw new ProfessionalNotFoundException();
+            }
+            return serviceResponseAssembler.toResponseDTOs(serviceRepository.findProjectionsByProfessionalId(id));
+        }));
+    }
 
-        return serviceRepository.findByProfessional(professional).stream()
-                .map(service -> new ServiceResponseDTO(
-                        service.getId(),
-                        service.getName(),
-                        service.getDescription(),
-                        service.getValue(),
-                        mapToProfessionalResponseDTO(service.getProfessional())))
-                .collect(Collectors.toList());
+    // Reaproveita o profissional já carregado; divide a entrada de cache por profissional
+    public List<ServiceResponseDTO> findServicesByProfessional(ProfessionalResponseDTO professional) {
+        return serviceCatalogCache.getServicesByProfessional(professional.id(), id -> loadTransaction.execute(
+                status -> serviceResponseAssembler.toResponseDTOs(serviceRepository.findProjectionsByProfessionalId(id),
+                        professional)));
     }
 
     private ProfessionalResponseDTO mapToProfessionalResponseDTO(Professional professional) {
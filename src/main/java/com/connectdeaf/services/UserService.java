@@ -9,11 +9,14 @@ import com.connectdeaf.domain.user.Role;
 import com.connectdeaf.domain.user.User;
 import com.connectdeaf.exceptions.EmailAlreadyExistsException;
 import com.connectdeaf.exceptions.UserNotFoundException;
-import com.connectdeaf.repositories.RoleRepository;
+import com.connectdeaf.repositories.ProfessionalRepository;
 import com.connectdeaf.repositories.UserRepository;
+import com.connectdeaf.services.invalidation.CacheInvalidation;
+import com.connectdeaf.services.invalidation.CacheInvalidationBus;
 
 import jakarta.transaction.Transactional;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -24,15 +27,23 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final AddressService addressService;
-    private final BCryptPasswordEncoder passwordEncoder;
-    private final RoleRepository roleRepository;
+    private final PasswordHasher passwordHasher;
+    private final RoleRegistry roleRegistry;
+    private final ProfessionalRepository professionalRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final RegisteredEmailFilter registeredEmailFilter;
 
     public UserService(UserRepository userRepository, AddressService addressService,
-                       BCryptPasswordEncoder passwordEncoder, RoleRepository roleRepository) {
+                       PasswordHasher passwordHasher, RoleRegistry roleRegistry,
+                       ProfessionalRepository professionalRepository, CacheInvalidationBus cacheInvalidationBus,
+                       RegisteredEmailFilter registeredEmailFilter) {
         this.userRepository = userRepository;
         this.addressService = addressService;
-        this.passwordEncoder = passwordEncoder;
-        this.roleRepository = roleRepository;
+        this.passwordHasher = passwordHasher;
+        this.roleRegistry = roleRegistry;
+        this.professionalRepository = professionalRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.registeredEmailFilter = registeredEmailFilter;
     }
 
     @Transactional
@@ -40,7 +51,18 @@ public class UserService {
         validateEmail(userRequestDTO.email());
 
         User newUser = buildNewUser(userRequestDTO, isProfessional);
-        User savedUser = userRepository.save(newUser);
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(newUser);
+        } catch (DataIntegrityViolationException e) {
+            // Filtro de outro nó ainda sem o e-mail: o índice único decide
+            if (isEmailConstraint(e)) {
+                throw new EmailAlreadyExistsException(userRequestDTO.email());
+            }
+            throw e;
+        }
+        registeredEmailFilter.put(savedUser.getEmail());
+        cacheInvalidationBus.publishToOtherNodes(CacheInvalidation.user(savedUser.getId()));
 
         saveAddresses(userRequestDTO.addresses(), savedUser);
 
@@ -51,10 +73,21 @@ public class UserService {
     public UserResponseDTO updateUser(UUID userId, UserRequestDTO userRequestDTO) {
         User existingUser = findUserById(userId);
 
+        if (userRequestDTO.email() != null) {
+            registeredEmailFilter.put(userRequestDTO.email());
+        }
         updateUserDetails(existingUser, userRequestDTO);
-        updateAddresses(existingUser, userRequestDTO.addresses());
+        // Sem lista no pedido, os endereços ficam como estão
+        if (userRequestDTO.addresses() != null) {
+            addressService.syncAddresses(existingUser, userRequestDTO.addresses());
+        }
 
         User updatedUser = userRepository.save(existingUser);
+        // O cache de segundo nível local já reflete a alteração; os outros nós descartam o usuário
+        cacheInvalidationBus.publishToOtherNodes(CacheInvalidation.user(userId));
+        // Nome, e-mail e endereços aparecem nos serviços em cache do profissional
+        professionalRepository.findByUser(updatedUser).ifPresent(professional -> cacheInvalidationBus
+                .publish(CacheInvalidation.professional(professional.getId())));
 
         return convertToUserResponseDTO(updatedUser);
     }
@@ -63,6 +96,7 @@ public class UserService {
     public void deleteUser(UUID userId) {
         User user = findUserById(userId);
         userRepository.delete(user);
+        cacheInvalidationBus.publishToOtherNodes(CacheInvalidation.user(userId));
     }
 
     public UserResponseDTO createUserDTO(UUID userId) {
@@ -91,8 +125,8 @@ public class UserService {
     }
 
     private void validateEmail(String email) {
-        List<User> users = userRepository.findByEmail(email);
-        if (!users.isEmpty()) {
+        // E-mail fora do filtro de Bloom certamente é novo: nenhuma consulta
+        if (registeredEmailFilter.isRegistered(email, userRepository::findEmailsIn)) {
             throw new EmailAlreadyExistsException(email);
         }
     }
@@ -101,11 +135,10 @@ public class UserService {
         User newUser = new User();
         newUser.setName(userRequestDTO.name());
         newUser.setEmail(userRequestDTO.email());
-        newUser.setPassword(passwordEncoder.encode(userRequestDTO.password()));
+        newUser.setPassword(passwordHasher.encode(userRequestDTO.password()));
         newUser.setPhoneNumber(userRequestDTO.phoneNumber());
 
-        Role role = isProfessional ? roleRepository.findByName(Role.Values.ROLE_PROFESSIONAL.name())
-                                   : roleRepository.findByName(Role.Values.ROLE_USER.name());
+        Role role = roleRegistry.get(isProfessional ? Role.Values.ROLE_PROFESSIONAL : Role.Values.ROLE_USER);
         newUser.setRoles(Set.of(role));
 
         return newUser;
@@ -113,7 +146,7 @@ public class UserService {
 
     private void saveAddresses(List<AddressRequestDTO> addressRequestDTOs, User savedUser) {
         for (AddressRequestDTO addressRequestDTO : addressRequestDTOs) {
-            Address newAddress = buildAddress(addressRequestDTO, savedUser);
+            Address newAddress = AddressService.buildAddress(addressRequestDTO, savedUser);
             addressService.saveAddress(newAddress);
         }
     }
@@ -124,29 +157,6 @@ public class UserService {
         existingUser.setPhoneNumber(userRequestDTO.phoneNumber());
     }
 
-    private void updateAddresses(User existingUser, List<AddressRequestDTO> addressRequestDTOs) {
-        Set<Address> updatedAddresses = new HashSet<>();
-        for (AddressRequestDTO addressRequestDTO : addressRequestDTOs) {
-            Address newAddress = buildAddress(addressRequestDTO, existingUser);
-            updatedAddresses.add(newAddress);
-            addressService.saveAddress(newAddress);
-        }
-        existingUser.getAddresses().retainAll(updatedAddresses);
-    }
-
-    private Address buildAddress(AddressRequestDTO addressRequestDTO, User user) {
-        Address newAddress = new Address();
-        newAddress.setState(addressRequestDTO.state());
-        newAddress.setCity(addressRequestDTO.city());
-        newAddress.setStreet(addressRequestDTO.street());
-        newAddress.setCep(addressRequestDTO.cep());
-        newAddress.setNeighborhood(addressRequestDTO.neighborhood());
-        newAddress.setComplement(addressRequestDTO.complement());
-        newAddress.setNumber(addressRequestDTO.number());
-        newAddress.setUser(user);
-        return newAddress;
-    }
-
     private User findUserById(UUID userId) {
         return userRepository.findById(userId)
                 .orElseThrow(UserNotFoundException::new);
@@ -165,4 +175,11 @@ public class UserService {
                         address.getCep()))
                         .collect(Collectors.toList()));
     }
-}
\ No newline at end of file
+
+    // uk_user_email, idx_user_email_lower (V12) ou tb_user_email_key (V1)
+    private boolean isEmailConstraint(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase().contains("email");
+    }
+}
@@ -0,0 +1,60 @@
+package com.connectdeaf.services.invalidation;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+// Texto separado por | para caber no payload do NOTIFY
+public record CacheInvalidation(
+        Type type,
+        UUID id,
+        UUID professionalId,
+        LocalDate date
+) {
+    public enum Type {
+        SERVICE,
+        PROFESSIONAL,
+        SCHEDULE,
+        USER,
+        ALL
+    }
+
+    public static CacheInvalidation service(UUID serviceId, UUID professionalId) {
+        return new CacheInvalidation(Type.SERVICE, serviceId, professionalId, null);
+    }
+
+    public static CacheInvalidation professional(UUID professionalId) {
+        return new CacheInvalidation(Type.PROFESSIONAL, null, professionalId, null);
+    }
+
+    public static CacheInvalidation schedule(UUID professionalId, LocalDate date) {
+        return new CacheInvalidation(Type.SCHEDULE, null, professionalId, date);
+    }
+
+    public static CacheInvalidation user(UUID userId) {
+        return new CacheInvalidation(Type.USER, userId, null, null);
+    }
+
+    public static CacheInvalidation all() {
+        return new CacheInvalidation(Type.ALL, null, null, null);
+    }
+
+    public String encode() {
+        return type + "|" + valueOf(id) + "|" + valueOf(professionalId) + "|" + valueOf(date);
+    }
+
+    public static CacheInvalidation decode(String encoded) {
+        String[] parts = encoded.split("\\|", -1);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Invalid cache invalidation: " + encoded);
+        }
+        return new CacheInvalidation(
+                Type.valueOf(parts[0]),
+                parts[1].isEmpty() ? null : UUID.fromString(parts[1]),
+                parts[2].isEmpty() ? null : UUID.fromString(parts[2]),
+                parts[3].isEmpty() ? null : LocalDate.parse(parts[3]));
+    }
+
+    private static String valueOf(Object value) {
+        return value == null ? "" : value.toString();
+    }
+}
@@ -0,0 +1,101 @@
+package com.connectdeaf.services.invalidation;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// Se mensagens podem ter se perdido, todos os listeners recebem CacheInvalidation.all()
+@Service
+public class CacheInvalidationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<CacheInvalidationListener> listeners;
+    private final CacheInvalidationTransport transport;
+
+    public CacheInvalidationBus(List<CacheInvalidationListener> listeners, DataSource dataSource,
+                                DataSourceProperties dataSourceProperties, JdbcTemplate jdbcTemplate,
+                                @Value("${connectdeaf.cache.invalidation.poll-interval:PT1S}") Duration pollInterval) {
+        this.listeners = listeners;
+        this.transport = isPostgres(dataSource)
+                ? new PostgresNotifyTransport(dataSourceProperties.determineUrl(),
+                        dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword(),
+                        jdbcTemplate)
+                : new PollingTableTransport(jdbcTemplate, pollInterval);
+    }
+
+    @PostConstruct
+    void start() {
+        transport.start(this::receive, () -> dispatch(CacheInvalidation.all()));
+    }
+
+    @PreDestroy
+    void stop() {
+        transport.stop();
+    }
+
+    public void publish(CacheInvalidation invalidation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(invalidation);
+                }
+            });
+        } else {
+            dispatch(invalidation);
+        }
+        publishToOtherNodes(invalidation);
+    }
+
+    // Para mudanças que os caches deste nó já aplicaram
+    public void publishToOtherNodes(CacheInvalidation invalidation) {
+        transport.send(nodeId + "|" + invalidation.encode());
+    }
+
+    private void receive(String payload) {
+        int separator = payload.indexOf('|');
+        if (separator < 0 || payload.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        try {
+            dispatch(CacheInvalidation.decode(payload.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalidação de cache ignorada: {}", payload, e);
+        }
+    }
+
+    private void dispatch(CacheInvalidation invalidation) {
+        for (CacheInvalidationListener listener : listeners) {
+            try {
+                listener.onInvalidation(invalidation);
+            } catch (RuntimeException e) {
+                logger.warn("Falha ao aplicar invalidação {} em {}", invalidation, listener.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    private static boolean isPostgres(DataSource dataSource) {
+        try (var connection = dataSource.getConnection()) {
+            return "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not determine the database product", e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.connectdeaf.services.invalidation;
+
+// Recebe mudanças deste nó e dos outros: implementações devem ser idempotentes
+public interface CacheInvalidationListener {
+
+    void onInvalidation(CacheInvalidation invalidation);
+}
@@ -0,0 +1,14 @@
+package com.connectdeaf.services.invalidation;
+
+import java.util.function.Consumer;
+
+interface CacheInvalidationTransport {
+
+    // Entra na transação atual: os outros nós só recebem após o commit
+    void send(String payload);
+
+    // onGap roda quando mensagens podem ter se perdido (ex.: ao reconectar)
+    void start(Consumer<String> receiver, Runnable onGap);
+
+    void stop();
+}
@@ -0,0 +1,87 @@
+package com.connectdeaf.services.invalidation;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// Ids não são confirmados em ordem: cada leitura relê uma janela recente e pula o que já entregou
+final class PollingTableTransport implements CacheInvalidationTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(PollingTableTransport.class);
+    private static final Duration LOOKBACK = Duration.ofSeconds(30);
+    private static final Duration RETENTION = Duration.ofMinutes(10);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration pollInterval;
+    private final Map<Long, Instant> delivered = new HashMap<>();
+    private ScheduledExecutorService poller;
+
+    PollingTableTransport(JdbcTemplate jdbcTemplate, Duration pollInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.pollInterval = pollInterval;
+    }
+
+    @Override
+    public void send(String payload) {
+        jdbcTemplate.update("insert into tb_cache_invalidation (payload, created_at) values (?, ?)", payload,
+                Timestamp.from(Instant.now()));
+    }
+
+    @Override
+    public void start(Consumer<String> receiver, Runnable onGap) {
+        jdbcTemplate.execute("""
+                create table if not exists tb_cache_invalidation (
+                    id bigint generated by default as identity primary key,
+                    payload varchar(512) not null,
+                    created_at timestamp not null
+                )
+                """);
+        // Mensagens anteriores à subida do nó não interessam: o cache começa vazio
+        Instant startedAt = Instant.now();
+        jdbcTemplate.query("select id from tb_cache_invalidation where created_at > ?",
+                rs -> {
+                    delivered.put(rs.getLong("id"), startedAt);
+                }, Timestamp.from(startedAt.minus(LOOKBACK)));
+
+        poller = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("cache-invalidation-poller")
+                .daemon()
+                .factory());
+        poller.scheduleWithFixedDelay(() -> poll(receiver), pollInterval.toMillis(), pollInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+    }
+
+    private void poll(Consumer<String> receiver) {
+        try {
+            Instant now = Instant.now();
+            jdbcTemplate.query("select id, payload from tb_cache_invalidation where created_at > ? order by id",
+                    rs -> {
+                        if (delivered.putIfAbsent(rs.getLong("id"), now) == null) {
+                            receiver.accept(rs.getString("payload"));
+                        }
+                    }, Timestamp.from(now.minus(LOOKBACK)));
+            delivered.values().removeIf(seenAt -> seenAt.isBefore(now.minus(LOOKBACK.multipliedBy(2))));
+            jdbcTemplate.update("delete from tb_cache_invalidation where created_at < ?",
+                    Timestamp.from(now.minus(RETENTION)));
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao buscar invalidações de cache", e);
+        }
+    }
+}
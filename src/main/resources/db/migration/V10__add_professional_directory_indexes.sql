@@ -0,0 +1,6 @@
+-- Diretório de profissionais: ordenação keyset por nome e filtros sem distinção de maiúsculas
+CREATE INDEX IF NOT EXISTS idx_user_name_id ON TB_USER (name, id);
+CREATE INDEX IF NOT EXISTS idx_professional_area_lower ON TB_PROFESSIONAL (lower(area_of_expertise));
+CREATE INDEX IF NOT EXISTS idx_professional_qualification_lower ON TB_PROFESSIONAL (lower(qualification));
+-- Subconsulta da cidade por usuário
+CREATE INDEX IF NOT EXISTS idx_address_user_city ON TB_ADDRESS (user_id, city);
@@ -0,0 +1,20 @@
+-- Contadores de atendimentos por profissional, mantidos a cada mudança de status
+CREATE TABLE IF NOT EXISTS TB_PROFESSIONAL_STATS (
+    professional_id UUID PRIMARY KEY REFERENCES TB_PROFESSIONAL(id) ON DELETE CASCADE,
+    finished_count BIGINT NOT NULL DEFAULT 0,
+    cancelled_count BIGINT NOT NULL DEFAULT 0,
+    rejected_count BIGINT NOT NULL DEFAULT 0
+);
+CREATE INDEX IF NOT EXISTS idx_professional_stats_ranking
+    ON TB_PROFESSIONAL_STATS (finished_count DESC, professional_id);
+
+-- Carga inicial a partir dos agendamentos existentes
+INSERT INTO TB_PROFESSIONAL_STATS (professional_id, finished_count, cancelled_count, rejected_count)
+SELECT p.id,
+       count(a.id) FILTER (WHERE a.status = 'FINISHED'),
+       count(a.id) FILTER (WHERE a.status = 'CANCELLED'),
+       count(a.id) FILTER (WHERE a.status = 'REJECTED')
+FROM TB_PROFESSIONAL p
+LEFT JOIN TB_APPOINTMENT a ON a.professional_id = p.id
+GROUP BY p.id
+ON CONFLICT (professional_id) DO NOTHING;
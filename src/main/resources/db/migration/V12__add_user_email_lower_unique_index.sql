@@ -0,0 +1,3 @@
+-- E-mails únicos sem distinção de maiúsculas: atende lower(email) = lower(?) no cadastro e no login.
+-- Falha se já houver e-mails que diferem só na caixa; resolva-os antes de aplicar.
+CREATE UNIQUE INDEX IF NOT EXISTS idx_user_email_lower ON TB_USER (lower(email));
@@ -0,0 +1,46 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+CREATE TABLE IF NOT EXISTS TB_SCHEDULE (
+    id UUID DEFAULT gen_random_uuid() PRIMARY KEY,
+    professional_id UUID NOT NULL,
+    date DATE NOT NULL,
+    start_time TIME NOT NULL,
+    end_time TIME NOT NULL,
+    FOREIGN KEY (professional_id) REFERENCES TB_PROFESSIONAL(id) ON DELETE CASCADE
+);
+
+-- A entidade Schedule já declara esta restrição e o ddl-auto pode tê-la criado
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_schedule_professional_slot') THEN
+        ALTER TABLE TB_SCHEDULE
+            ADD CONSTRAINT uk_schedule_professional_slot UNIQUE (professional_id, date, start_time);
+    END IF;
+END $$;
+
+-- O EXCLUDE não pode ser criado com sobreposições existentes; aborta listando quantas resolver antes
+DO $$
+DECLARE
+    overlaps BIGINT;
+BEGIN
+    SELECT count(*) INTO overlaps
+    FROM TB_SCHEDULE a
+    JOIN TB_SCHEDULE b ON a.professional_id = b.professional_id
+        AND a.id < b.id
+        AND tsrange(a.date + a.start_time, a.date + a.end_time) && tsrange(b.date + b.start_time, b.date + b.end_time);
+    IF overlaps > 0 THEN
+        RAISE EXCEPTION 'TB_SCHEDULE tem % pares de horários sobrepostos; remova-os antes de aplicar V6', overlaps;
+    END IF;
+END $$;
+
+-- Garante no banco que dois horários do mesmo profissional nunca se sobrepõem
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'ex_schedule_professional_overlap') THEN
+        ALTER TABLE TB_SCHEDULE
+            ADD CONSTRAINT ex_schedule_professional_overlap EXCLUDE USING gist (
+                professional_id WITH =,
+                tsrange(date + start_time, date + end_time) WITH &&
+            );
+    END IF;
+END $$;
@@ -0,0 +1,9 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Documento de busca (nome + descrição); a expressão precisa ser idêntica à usada em ServiceSearchRepositoryImpl
+CREATE INDEX IF NOT EXISTS idx_service_search_document ON TB_SERVICE USING gin (
+    to_tsvector('portuguese'::regconfig, coalesce(name, '') || ' ' || coalesce(description, ''))
+);
+
+-- Similaridade por trigramas no nome, para tolerar erros de digitação
+CREATE INDEX IF NOT EXISTS idx_service_name_trgm ON TB_SERVICE USING gin (name gin_trgm_ops);
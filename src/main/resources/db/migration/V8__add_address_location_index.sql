@@ -0,0 +1,12 @@
+ALTER TABLE TB_ADDRESS ADD COLUMN IF NOT EXISTS city_normalized VARCHAR(255);
+ALTER TABLE TB_ADDRESS ADD COLUMN IF NOT EXISTS state_normalized VARCHAR(255);
+
+-- Mesma normalização de Address.normalize (trim + minúsculas)
+UPDATE TB_ADDRESS
+SET city_normalized = lower(trim(city)),
+    state_normalized = lower(trim(state))
+WHERE city_normalized IS NULL OR state_normalized IS NULL;
+
+-- user_id no fim do índice permite resolver o EXISTS por profissional só com o índice
+CREATE INDEX IF NOT EXISTS idx_address_state_city_user ON TB_ADDRESS (state_normalized, city_normalized, user_id);
+CREATE INDEX IF NOT EXISTS idx_address_city_user ON TB_ADDRESS (city_normalized, user_id);
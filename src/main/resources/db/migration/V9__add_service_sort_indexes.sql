@@ -0,0 +1,7 @@
+ALTER TABLE TB_SERVICE ADD COLUMN IF NOT EXISTS created_at TIMESTAMP NOT NULL DEFAULT now();
+
+-- Índices compostos (coluna de ordenação, id) para as consultas keyset do catálogo;
+-- as ordens descendentes (price_desc, newest) percorrem o mesmo índice de trás para frente
+CREATE INDEX IF NOT EXISTS idx_service_value_id ON TB_SERVICE (value, id);
+CREATE INDEX IF NOT EXISTS idx_service_name_id ON TB_SERVICE (name, id);
+CREATE INDEX IF NOT EXISTS idx_service_created_at_id ON TB_SERVICE (created_at, id);
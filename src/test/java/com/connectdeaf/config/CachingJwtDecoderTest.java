@@ -0,0 +1,103 @@
+package com.connectdeaf.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CachingJwtDecoderTest {
+
+    private JwtEncoder encoder;
+    private MeterRegistry meterRegistry;
+    private AtomicInteger verifications;
+    private CachingJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        encoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(
+                new RSAKey.Builder(publicKey).privateKey((RSAPrivateKey) keyPair.getPrivate()).build())));
+
+        JwtDecoder nimbus = NimbusJwtDecoder.withPublicKey(publicKey).build();
+        verifications = new AtomicInteger();
+        meterRegistry = new SimpleMeterRegistry();
+        decoder = new CachingJwtDecoder(token -> {
+            verifications.incrementAndGet();
+            return nimbus.decode(token);
+        }, meterRegistry, 100, Duration.ofHours(1));
+    }
+
+    @Test
+    void reusedTokenIsVerifiedOnce() {
+        String token = token(Duration.ofHours(1));
+
+        Jwt first = decoder.decode(token);
+        Jwt second = decoder.decode(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.getSubject()).isEqualTo("usuario");
+        assertThat(verifications).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwtDecoder").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectedTokenIsNotCached() {
+        String token = token(Duration.ofHours(1));
+        String tampered = token.substring(0, token.length() - 4) + "AAAA";
+
+        assertThatThrownBy(() -> decoder.decode(tampered)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> decoder.decode(tampered)).isInstanceOf(JwtException.class);
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void entryExpiresWithTheToken() throws InterruptedException {
+        String token = token(Duration.ofSeconds(1));
+        decoder.decode(token);
+
+        Thread.sleep(1_200);
+        // De volta ao decoder original, que aplica a validação de exp
+        decoder.decode(token);
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    private String token(Duration lifetime) {
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer("connect-deaf-app")
+                .subject("usuario")
+                .issuedAt(now)
+                .expiresAt(now.plus(lifetime))
+                .build();
+        return encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+    }
+}
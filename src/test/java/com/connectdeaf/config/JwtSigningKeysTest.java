@@ -0,0 +1,107 @@
+package com.connectdeaf.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+class JwtSigningKeysTest {
+
+    @TempDir
+    Path keys;
+
+    @ParameterizedTest
+    @EnumSource(JwtSigningAlgorithm.class)
+    void tokensAreSignedAndVerifiedWithTheConfiguredAlgorithm(JwtSigningAlgorithm algorithm) throws Exception {
+        JwtSigningKeys signingKeys = load(algorithm, "atual", null, null);
+
+        Jwt jwt = signingKeys.decoder().decode(issue(signingKeys, "usuario"));
+
+        assertThat(jwt.getSubject()).isEqualTo("usuario");
+        assertThat(jwt.getHeaders()).containsEntry("alg", algorithm.jwsAlgorithm().getName())
+                .containsEntry("kid", signingKeys.signingKey().getKeyID());
+    }
+
+    @Test
+    void tokensOfThePreviousKeyStillVerifyAfterRollover() throws Exception {
+        JwtSigningKeys before = load(JwtSigningAlgorithm.RS256, "anterior", null, null);
+        String oldToken = issue(before, "antigo");
+
+        JwtSigningKeys after = load(JwtSigningAlgorithm.ES256, "atual", JwtSigningAlgorithm.RS256, "anterior");
+        String newToken = issue(after, "novo");
+
+        assertThat(after.decoder().decode(oldToken).getSubject()).isEqualTo("antigo");
+        assertThat(after.decoder().decode(newToken).getSubject()).isEqualTo("novo");
+        // Sem a chave anterior configurada, o token antigo deixa de valer
+        JwtSigningKeys withoutPrevious = load(JwtSigningAlgorithm.ES256, "atual", null, null);
+        assertThatThrownBy(() -> withoutPrevious.decoder().decode(oldToken)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void tokensOfAnUnknownKeyAreRejected() throws Exception {
+        JwtSigningKeys other = load(JwtSigningAlgorithm.EdDSA, "outra", null, null);
+        JwtSigningKeys signingKeys = load(JwtSigningAlgorithm.EdDSA, "atual", null, null);
+
+        assertThatThrownBy(() -> signingKeys.decoder().decode(issue(other, "intruso")))
+                .isInstanceOf(JwtException.class);
+    }
+
+    private JwtSigningKeys load(JwtSigningAlgorithm algorithm, String name, JwtSigningAlgorithm previousAlgorithm,
+                                String previousName) throws Exception {
+        if (!Files.exists(keys.resolve(name + ".pub"))) {
+            KeyPair keyPair = generate(algorithm);
+            write(name + ".pub", "PUBLIC KEY", keyPair.getPublic());
+            write(name + ".key", "PRIVATE KEY", keyPair.getPrivate());
+        }
+        return JwtSigningKeys.load(new DefaultResourceLoader(), algorithm, location(name + ".pub"),
+                location(name + ".key"), previousAlgorithm, previousName == null ? null : location(previousName + ".pub"));
+    }
+
+    private static KeyPair generate(JwtSigningAlgorithm algorithm) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm.keyType());
+        switch (algorithm) {
+            case RS256 -> generator.initialize(2048);
+            case ES256 -> generator.initialize(new ECGenParameterSpec("secp256r1"));
+            case EdDSA -> {
+            }
+        }
+        return generator.generateKeyPair();
+    }
+
+    private void write(String file, String type, Key key) throws Exception {
+        Files.writeString(keys.resolve(file), "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder().encodeToString(key.getEncoded()) + "\n-----END " + type + "-----\n");
+    }
+
+    private String location(String file) {
+        return keys.resolve(file).toUri().toString();
+    }
+
+    private static String issue(JwtSigningKeys signingKeys, String subject) {
+        Instant now = Instant.now();
+        return signingKeys.encoder().encode(JwtEncoderParameters.from(JwtClaimsSet.builder()
+                .issuer("connect-deaf-app")
+                .subject(subject)
+                .issuedAt(now)
+                .expiresAt(now.plus(Duration.ofHours(1)))
+                .build())).getTokenValue();
+    }
+}
@@ -0,0 +1,90 @@
+package com.connectdeaf.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import com.connectdeaf.controllers.dtos.requests.LoginRequestDTO;
+import com.connectdeaf.controllers.dtos.requests.UserRequestDTO;
+import com.connectdeaf.services.AuthService;
+import com.connectdeaf.services.UserService;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProfessionalImportControllerTest {
+
+    private static final String NDJSON = """
+            {"name":"Intérprete","email":"import-mvc@email.com","password":"senha","qualification":"Libras","areaOfExpertise":"Interpretação"}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        String users = "select id from tb_user where email in ('import-mvc@email.com', 'import-comum@email.com')";
+        jdbcTemplate.update("delete from tb_professional_stats where professional_id in "
+                + "(select id from tb_professional where user_id in (" + users + "))");
+        jdbcTemplate.update("delete from tb_professional where user_id in (" + users + ")");
+        jdbcTemplate.update("delete from tb_user_roles where user_id in (" + users + ")");
+        jdbcTemplate.update("delete from tb_user where email in ('import-mvc@email.com', 'import-comum@email.com')");
+    }
+
+    @Test
+    void adminTokenCanImport() throws Exception {
+        String token = authService.login(new LoginRequestDTO("admin@email.com", "admin")).accessToken();
+
+        MvcResult started = mockMvc.perform(importRequest(token))
+                .andExpect(status().isOk())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body).contains("\"status\":\"IMPORTED\"");
+        assertThat(jdbcTemplate.queryForObject("select count(*) from tb_user where email = 'import-mvc@email.com'",
+                Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    void userTokenIsForbidden() throws Exception {
+        userService.createUser(new UserRequestDTO("Comum", "import-comum@email.com", "senha", "81999999999",
+                List.of()), false);
+        String token = authService.login(new LoginRequestDTO("import-comum@email.com", "senha")).accessToken();
+
+        mockMvc.perform(importRequest(token)).andExpect(status().isForbidden());
+    }
+
+    private static RequestBuilder importRequest(String token) {
+        return post("/api/professionals/import")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(NDJSON);
+    }
+}
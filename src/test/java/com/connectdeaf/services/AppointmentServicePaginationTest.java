@@ -0,0 +1,159 @@
+package com.connectdeaf.services;
+
+import static com.connectdeaf.services.TestEntities.persistProfessional;
+import static com.connectdeaf.services.TestEntities.persistUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.connectdeaf.controllers.dtos.response.AppointmentPageResponseDTO;
+import com.connectdeaf.controllers.dtos.response.AppointmentResponseDTO;
+import com.connectdeaf.domain.appointment.Appointment;
+import com.connectdeaf.domain.professional.Professional;
+import com.connectdeaf.domain.schedule.Schedule;
+import com.connectdeaf.domain.service.ServiceEntity;
+import com.connectdeaf.domain.user.User;
+import com.connectdeaf.exceptions.InvalidCursorException;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class AppointmentServicePaginationTest {
+
+    // UUID.compareTo compara com sinal; o banco ordena pelos bytes, como a forma textual
+    private static final Comparator<AppointmentResponseDTO> KEYSET_ORDER = Comparator
+            .comparing((AppointmentResponseDTO appointment) -> appointment.schedule() == null ? null
+                    : appointment.schedule().date(), Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(appointment -> appointment.schedule() == null ? null
+                    : appointment.schedule().startTime(), Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(appointment -> appointment.id().toString());
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Professional professional;
+    private User customer;
+
+    @BeforeEach
+    void setUp() {
+        customer = persistUser(entityManager, "Cliente", "cliente@email.com");
+
+        professional = persistProfessional(entityManager,
+                persistUser(entityManager, "Intérprete", "interprete@email.com"));
+        Professional otherProfessional = persistProfessional(entityManager,
+                persistUser(entityManager, "Intérprete", "outro-interprete@email.com"));
+
+        // Os dois profissionais atendem nos mesmos horários, forçando o desempate pelo id na listagem geral
+        for (Professional current : List.of(professional, otherProfessional)) {
+            ServiceEntity service = new ServiceEntity(null, current, 100.0, "Interpretação", null);
+            entityManager.persist(service);
+            for (int day = 0; day < 5; day++) {
+                for (int hour = 8; hour < 12; hour++) {
+                    Schedule schedule = new Schedule(null, current, LocalDate.of(2024, 3, 1).plusDays(day),
+                            LocalTime.of(hour, 0), LocalTime.of(hour + 1, 0));
+                    entityManager.persist(schedule);
+                    entityManager.persist(new Appointment(null, customer, current, service, schedule, "PENDING"));
+                }
+            }
+            // Sem horário: vem depois de todos os agendados
+            for (int i = 0; i < 3; i++) {
+                entityManager.persist(new Appointment(null, customer, current, service, null, "PENDING"));
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void cursorPagesVisitEveryAppointmentOnceInKeysetOrder() {
+        List<AppointmentResponseDTO> visited = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            AppointmentPageResponseDTO page = appointmentService.findAppointmentsPage(cursor, 7);
+            assertThat(page.content()).hasSizeLessThanOrEqualTo(7);
+            visited.addAll(page.content());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(7);
+        assertThat(visited).hasSize(46);
+        assertThat(visited).extracting(AppointmentResponseDTO::id).doesNotHaveDuplicates();
+        assertThat(visited).isSortedAccordingTo(KEYSET_ORDER);
+    }
+
+    @Test
+    void professionalPagesOnlyContainThatProfessional() {
+        AppointmentPageResponseDTO page = appointmentService.findAppointmentsPageByProfessional(professional.getId(),
+                null, 15);
+        AppointmentPageResponseDTO next = appointmentService.findAppointmentsPageByProfessional(professional.getId(),
+                page.nextCursor(), 15);
+
+        assertThat(page.content()).hasSize(15);
+        assertThat(next.content()).hasSize(8);
+        assertThat(next.nextCursor()).isNull();
+        assertThat(page.content()).extracting(appointment -> appointment.professional().id())
+                .containsOnly(professional.getId());
+    }
+
+    @Test
+    void streamingEmitsTheSameRowsAsPaging() {
+        List<AppointmentResponseDTO> streamed = new ArrayList<>();
+        appointmentService.streamAppointmentsByCustomer(customer.getId(), streamed::add);
+
+        AppointmentPageResponseDTO firstPage = appointmentService.findAppointmentsPageByCustomer(customer.getId(),
+                null, 100);
+
+        assertThat(streamed).hasSize(46);
+        assertThat(streamed).extracting(AppointmentResponseDTO::id)
+                .containsExactlyElementsOf(firstPage.content().stream().map(AppointmentResponseDTO::id).toList());
+        assertThat(firstPage.nextCursor()).isNull();
+    }
+
+    @Test
+    void pagesCrossIntoAndWalkThroughUnscheduledAppointments() {
+        List<AppointmentResponseDTO> visited = new ArrayList<>();
+        String cursor = null;
+        do {
+            // Páginas de 2 para que vários cursores caiam entre os sem horário
+            AppointmentPageResponseDTO page = appointmentService.findAppointmentsPageByProfessional(
+                    professional.getId(), cursor, 2);
+            visited.addAll(page.content());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(visited).hasSize(23);
+        assertThat(visited).extracting(AppointmentResponseDTO::id).doesNotHaveDuplicates();
+        assertThat(visited).isSortedAccordingTo(KEYSET_ORDER);
+        assertThat(visited.subList(20, 23)).allMatch(appointment -> appointment.schedule() == null);
+        assertThat(appointmentService.findAppointmentsByProfessional(professional.getId())).hasSize(23);
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> appointmentService.findAppointmentsPage("not-a-cursor", 10))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> appointmentService.findAppointmentsPageByCustomer(UUID.randomUUID(), "%%", 10))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}
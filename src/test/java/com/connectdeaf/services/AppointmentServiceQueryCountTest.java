@@ -0,0 +1,126 @@
+package com.connectdeaf.services;
+
+import static com.connectdeaf.services.TestEntities.persistProfessional;
+import static com.connectdeaf.services.TestEntities.persistUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.connectdeaf.controllers.dtos.response.AppointmentResponseDTO;
+import com.connectdeaf.domain.appointment.Appointment;
+import com.connectdeaf.domain.professional.Professional;
+import com.connectdeaf.domain.schedule.Schedule;
+import com.connectdeaf.domain.service.ServiceEntity;
+import com.connectdeaf.domain.user.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class AppointmentServiceQueryCountTest {
+
+    private static final int APPOINTMENTS_PER_CUSTOMER = 25;
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Professional professional;
+    private User customer;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        professional = persistProfessional(entityManager,
+                persistUser(entityManager, "Intérprete", "interpreter@email.com", "Recife"));
+        ServiceEntity service = persistService(professional);
+
+        for (int c = 0; c < 4; c++) {
+            User current = persistUser(entityManager, "Cliente " + c, "customer" + c + "@email.com", "Recife");
+            for (int i = 0; i < APPOINTMENTS_PER_CUSTOMER; i++) {
+                persistAppointment(current, professional, service, LocalDate.of(2024, 1, 1).plusDays(i),
+                        LocalTime.of(9 + c, 0));
+            }
+            customer = current;
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void findAllAppointmentsUsesConstantNumberOfQueries() {
+        List<AppointmentResponseDTO> appointments = appointmentService.findAllAppointments();
+
+        assertThat(appointments).hasSize(4 * APPOINTMENTS_PER_CUSTOMER);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void findAppointmentsByProfessionalUsesConstantNumberOfQueries() {
+        List<AppointmentResponseDTO> appointments = appointmentService
+                .findAppointmentsByProfessional(professional.getId());
+
+        assertThat(appointments).hasSize(4 * APPOINTMENTS_PER_CUSTOMER);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void findAppointmentsByCustomerUsesConstantNumberOfQueries() {
+        List<AppointmentResponseDTO> appointments = appointmentService.findAppointmentsByCustomer(customer.getId());
+
+        assertThat(appointments).hasSize(APPOINTMENTS_PER_CUSTOMER);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+
+        AppointmentResponseDTO appointment = appointments.get(0);
+        assertThat(appointment.customer().addresses()).hasSize(1);
+        assertThat(appointment.professional().addresses()).hasSize(1);
+        assertThat(appointment.service().professional().id()).isEqualTo(professional.getId());
+        assertThat(appointment.schedule().professionalId()).isEqualTo(professional.getId());
+    }
+
+    @Test
+    void emptyListingIssuesSingleQuery() {
+        List<AppointmentResponseDTO> appointments = appointmentService.findAppointmentsByCustomer(UUID.randomUUID());
+
+        assertThat(appointments).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private ServiceEntity persistService(Professional owner) {
+        ServiceEntity service = new ServiceEntity(null, owner, 100.0, "Interpretação em consulta", "Consulta médica");
+        entityManager.persist(service);
+        return service;
+    }
+
+    private void persistAppointment(User owner, Professional assigned, ServiceEntity service, LocalDate date,
+                                    LocalTime startTime) {
+        Schedule schedule = new Schedule(null, assigned, date, startTime, startTime.plusHours(1));
+        entityManager.persist(schedule);
+
+        Appointment appointment = new Appointment(null, owner, assigned, service, schedule, "PENDING");
+        entityManager.persist(appointment);
+    }
+}
@@ -0,0 +1,108 @@
+package com.connectdeaf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.connectdeaf.controllers.dtos.requests.LoginRequestDTO;
+import com.connectdeaf.controllers.dtos.requests.UserRequestDTO;
+import com.connectdeaf.exceptions.PasswordHashingBusyException;
+import com.connectdeaf.repositories.ProfessionalRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AuthServiceLoginLoadTest {
+
+    private static final int LOGINS = 24;
+    private static final int HASHING_THREADS = 1;
+    private static final int QUEUE_SIZE = 4;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ProfessionalRepository professionalRepository;
+
+    @Autowired
+    private JwtEncoder jwtEncoder;
+
+    @Autowired
+    private BCryptPasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userService.createUser(new UserRequestDTO("Carga", "login-carga@email.com", "senha", "81999999999",
+                List.of()), false).id();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from tb_user_roles where user_id = ?", userId);
+        jdbcTemplate.update("delete from tb_user where id = ?", userId);
+    }
+
+    @Test
+    void loginBurstIsBoundedAndRejectsTheOverflow() throws Exception {
+        // Pool pequeno para saturar com poucas requisições
+        PasswordHasher passwordHasher = new PasswordHasher(passwordEncoder, new SimpleMeterRegistry(),
+                HASHING_THREADS, QUEUE_SIZE);
+        AuthService authService = new AuthService(userService, professionalRepository, jwtEncoder, passwordHasher);
+        LoginRequestDTO login = new LoginRequestDTO("login-carga@email.com", "senha");
+        authService.login(login);
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> logins = new ArrayList<>();
+            for (int i = 0; i < LOGINS; i++) {
+                logins.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        authService.login(login);
+                        succeeded.incrementAndGet();
+                    } catch (PasswordHashingBusyException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : logins) {
+                result.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            passwordHasher.shutdown();
+        }
+
+        assertThat(succeeded.get() + rejected.get()).isEqualTo(LOGINS);
+        assertThat(succeeded.get()).isGreaterThanOrEqualTo(HASHING_THREADS + QUEUE_SIZE);
+        assertThat(rejected.get()).isPositive();
+    }
+}
@@ -0,0 +1,85 @@
+package com.connectdeaf.services;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.connectdeaf.exceptions.PasswordHashingBusyException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// login mistura checagens aceitas e rejeições; otherRequest mostra se o resto do nó ainda tem CPU.
+// Fora do mvn test: após mvn test-compile, rode org.openjdk.jmh.Main PasswordHasherBenchmark
+@State(Scope.Group)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class PasswordHasherBenchmark {
+
+    @Param("1")
+    private int threads;
+
+    @Param("4")
+    private int queueSize;
+
+    private PasswordHasher passwordHasher;
+    private String hash;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+        passwordHasher = new PasswordHasher(passwordEncoder, new SimpleMeterRegistry(), threads, queueSize);
+        hash = passwordEncoder.encode("senha");
+        payload = "{\"id\":\"servico\",\"name\":\"Interpretação\"}".repeat(50).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Benchmark
+    @Group("loginBurst")
+    @GroupThreads(8)
+    public boolean login() {
+        try {
+            return passwordHasher.matches("senha", hash);
+        } catch (PasswordHashingBusyException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    @Group("loginBurst")
+    @GroupThreads(1)
+    public byte[] otherRequest() throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance("SHA-256").digest(payload);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PasswordHasherBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,151 @@
+package com.connectdeaf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.connectdeaf.controllers.dtos.response.ProfessionalImportResultDTO;
+import com.connectdeaf.controllers.dtos.response.ProfessionalImportResultDTO.Status;
+import com.connectdeaf.controllers.dtos.response.ProfessionalImportSummaryDTO;
+import com.connectdeaf.domain.professional.ProfessionalImportFormat;
+import com.connectdeaf.domain.user.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ProfessionalImportServiceTest {
+
+    private static final String CSV_HEADER = "name,email,password,phoneNumber,qualification,areaOfExpertise,"
+            + "workStartTime,workEndTime,breakDuration,cep,street,number,complement,neighborhood,city,state\n";
+
+    @Autowired
+    private ProfessionalImportService professionalImportService;
+
+    @Autowired
+    private BCryptPasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(
+                new User("Já cadastrado", "import-existente@email.com", "secret", "81999999999")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        String users = "select id from tb_user where email like 'import-%'";
+        jdbcTemplate.update("delete from tb_address where user_id in (" + users + ")");
+        jdbcTemplate.update("delete from tb_professional_stats where professional_id in "
+                + "(select id from tb_professional where user_id in (" + users + "))");
+        jdbcTemplate.update("delete from tb_professional where user_id in (" + users + ")");
+        jdbcTemplate.update("delete from tb_user_roles where user_id in (" + users + ")");
+        jdbcTemplate.update("delete from tb_user where email like 'import-%'");
+    }
+
+    @Test
+    void csvRowsAreWrittenInBatchesAndReportedInFileOrder() throws IOException {
+        int rows = 60;
+        StringBuilder csv = new StringBuilder(CSV_HEADER);
+        for (int i = 0; i < rows; i++) {
+            csv.append("Intérprete ").append(i).append(",import-").append(i).append("@email.com,senha").append(i)
+                    .append(",81988888888,Libras,Interpretação,08:00,17:00,PT1H,")
+                    .append("50000-000,\"Rua da Aurora, lado par\",").append(i).append(",,Boa Vista,Recife,PE\n");
+        }
+        csv.append("Sem qualificação,import-sem-qualificacao@email.com,senha,,,Interpretação,,,,,,,,,,\n");
+        csv.append("Repetido,import-0@email.com,senha,,Libras,Interpretação,,,,,,,,,,\n");
+        csv.append("Existente,import-existente@email.com,senha,,Libras,Interpretação,,,,,,,,,,\n");
+
+        List<ProfessionalImportResultDTO> results = new ArrayList<>();
+        statistics.clear();
+        ProfessionalImportSummaryDTO summary = professionalImportService.importProfessionals(
+                stream(csv.toString()), ProfessionalImportFormat.CSV, results::add);
+        long statements = statistics.getPrepareStatementCount();
+
+        assertThat(summary.rows()).isEqualTo(rows + 3);
+        assertThat(summary.imported()).isEqualTo(rows);
+        assertThat(summary.failed()).isEqualTo(3);
+        assertThat(results).extracting(ProfessionalImportResultDTO::row)
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, rows + 3).boxed().toList());
+        assertThat(results.subList(0, rows)).allMatch(result -> result.status() == Status.IMPORTED
+                && result.professionalId() != null);
+        assertThat(results.get(rows).error()).contains("qualification");
+        assertThat(results.get(rows + 1).error()).isEqualTo("Email repeated in the file");
+        assertThat(results.get(rows + 2).error()).isEqualTo("Email already registered");
+
+        // Um INSERT preparado por lote, não por linha
+        assertThat(statements).isLessThan(rows / 4);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(rows * 4L);
+
+        assertThat(jdbcTemplate.queryForObject("""
+                select count(*) from tb_professional p join tb_user u on u.id = p.user_id
+                join tb_user_roles ur on ur.user_id = u.id join tb_address a on a.user_id = u.id
+                where u.email like 'import-%' and ur.role_id = 2 and a.street = 'Rua da Aurora, lado par'
+                """, Integer.class)).isEqualTo(rows);
+        String hash = jdbcTemplate.queryForObject("select password from tb_user where email = 'import-7@email.com'",
+                String.class);
+        assertThat(passwordEncoder.matches("senha7", hash)).isTrue();
+    }
+
+    @Test
+    void ndjsonReportsMalformedLinesAndKeepsGoing() throws IOException {
+        String ndjson = """
+                {"name":"Intérprete","email":"import-json@email.com","password":"senha","qualification":"Libras","areaOfExpertise":"Interpretação","workStartTime":"08:00","breakDuration":"PT30M","addresses":[{"cep":"50000-000","street":"Rua Nova","number":"1","neighborhood":"Centro","city":"Recife","state":"PE"}]}
+                {"name": "quebrado"
+
+                null
+                {"name":"E-mail inválido","email":"import-invalido","password":"senha","qualification":"Libras","areaOfExpertise":"Interpretação"}
+                """;
+
+        List<ProfessionalImportResultDTO> results = new ArrayList<>();
+        ProfessionalImportSummaryDTO summary = professionalImportService.importProfessionals(stream(ndjson),
+                ProfessionalImportFormat.NDJSON, results::add);
+
+        assertThat(summary.imported()).isEqualTo(1);
+        assertThat(results).extracting(ProfessionalImportResultDTO::status)
+                .containsExactly(Status.IMPORTED, Status.FAILED, Status.FAILED, Status.FAILED);
+        assertThat(results.get(1).error()).startsWith("Invalid JSON");
+        assertThat(results.get(2).error()).isEqualTo("Invalid row: expected an object");
+        assertThat(results.get(3).error()).startsWith("email:");
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from tb_address a join tb_user u on u.id = a.user_id where u.email = ?",
+                Integer.class, "import-json@email.com")).isEqualTo(1);
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
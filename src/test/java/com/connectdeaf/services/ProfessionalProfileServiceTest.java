@@ -0,0 +1,111 @@
+package com.connectdeaf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.connectdeaf.controllers.dtos.response.ProfessionalProfileResponseDTO;
+import com.connectdeaf.controllers.dtos.response.ScheduleResponseDTO;
+import com.connectdeaf.controllers.dtos.response.ServiceResponseDTO;
+import com.connectdeaf.domain.professional.Professional;
+import com.connectdeaf.domain.schedule.Schedule;
+import com.connectdeaf.domain.service.ServiceEntity;
+import com.connectdeaf.domain.user.User;
+import com.connectdeaf.exceptions.ProfessionalNotFoundException;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ProfessionalProfileServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 8, 5);
+
+    @Autowired
+    private ProfessionalProfileService professionalProfileService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private UUID professionalId;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = new User("Intérprete", "perfil@email.com", "secret", "81988888888");
+            entityManager.persist(user);
+            Professional professional = new Professional(null, "Libras", "Interpretação", user, null,
+                    LocalTime.of(8, 0), LocalTime.of(12, 0), Duration.ofHours(1));
+            entityManager.persist(professional);
+            entityManager.persist(new ServiceEntity(null, professional, 100.0, "Interpretação", null));
+            entityManager.persist(new ServiceEntity(null, professional, 150.0, "Tradução", null));
+            entityManager.persist(new Schedule(null, professional, DAY, LocalTime.of(9, 0), LocalTime.of(10, 0)));
+
+            professionalId = professional.getId();
+            userId = user.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from tb_schedule where professional_id = ?", professionalId);
+        jdbcTemplate.update("delete from tb_service where professional_id = ?", professionalId);
+        jdbcTemplate.update("delete from tb_professional where id = ?", professionalId);
+        jdbcTemplate.update("delete from tb_user where id = ?", userId);
+    }
+
+    @Test
+    void profileCombinesServicesAndAvailabilityOfOneLoadedProfessional() {
+        statistics.clear();
+        ProfessionalProfileResponseDTO profile = professionalProfileService.getProfile(professionalId, DAY);
+
+        assertThat(profile.professional().name()).isEqualTo("Intérprete");
+        assertThat(profile.services()).extracting(ServiceResponseDTO::name)
+                .containsExactlyInAnyOrder("Interpretação", "Tradução");
+        assertThat(profile.services()).allMatch(service -> service.professional() == profile.professional());
+        assertThat(profile.availability()).extracting(ScheduleResponseDTO::startTime)
+                .containsExactly(LocalTime.of(8, 0), LocalTime.of(10, 0), LocalTime.of(11, 0));
+        // Profissional e usuário carregados uma única vez (ou vindos do cache de segundo nível)
+        assertThat(statistics.getEntityStatistics(Professional.class.getName()).getLoadCount()
+                + statistics.getDomainDataRegionStatistics("professionals").getHitCount()).isEqualTo(1);
+
+        statistics.clear();
+        professionalProfileService.getProfile(professionalId, DAY);
+        assertThat(statistics.getEntityStatistics(Professional.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    void unknownProfessionalIsRejectedBeforeFanningOut() {
+        assertThatThrownBy(() -> professionalProfileService.getProfile(UUID.randomUUID(), DAY))
+                .isInstanceOf(ProfessionalNotFoundException.class);
+    }
+}
@@ -0,0 +1,225 @@
+package com.connectdeaf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.connectdeaf.controllers.dtos.response.ProfessionalRankingPageResponseDTO;
+import com.connectdeaf.controllers.dtos.response.ProfessionalRankingResponseDTO;
+import com.connectdeaf.domain.appointment.Appointment;
+import com.connectdeaf.domain.professional.Professional;
+import com.connectdeaf.domain.professional.ProfessionalStats;
+import com.connectdeaf.domain.schedule.Schedule;
+import com.connectdeaf.domain.service.ServiceEntity;
+import com.connectdeaf.domain.user.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ProfessionalRankingServiceTest {
+
+    @Autowired
+    private ProfessionalRankingService professionalRankingService;
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+    private User customer;
+    private Professional experienced;
+    private Professional newcomer;
+    private Professional idle;
+    private int appointments;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // Junta-se à transação do teste quando há uma
+        transactionTemplate.executeWithoutResult(status -> {
+            customer = persistUser("Cliente", "ranking-cliente@email.com");
+            experienced = persistProfessional("Ana", "ranking-ana@email.com");
+            newcomer = persistProfessional("Bruno", "ranking-bruno@email.com");
+            idle = persistProfessional("Carla", "ranking-carla@email.com");
+        });
+    }
+
+    @Test
+    void statusChangesKeepCountersEqualToTheAppointmentTable() {
+        for (int i = 0; i < 3; i++) {
+            finish(appointment(experienced));
+        }
+        UUID rejected = appointment(experienced);
+        appointmentService.updateStatus(rejected, "REJECTED");
+
+        UUID finishedThenCancelled = appointment(newcomer);
+        finish(finishedThenCancelled);
+        appointmentService.updateStatus(finishedThenCancelled, "CANCELLED");
+        finish(appointment(newcomer));
+        // Repetir o mesmo status não conta duas vezes
+        appointmentService.updateStatus(finishedThenCancelled, "CANCELLED");
+
+        UUID deleted = appointment(newcomer);
+        finish(deleted);
+        appointmentService.deleteAppointment(deleted);
+        entityManager.flush();
+
+        for (Professional professional : List.of(experienced, newcomer, idle)) {
+            ProfessionalStats stats = entityManager.find(ProfessionalStats.class, professional.getId());
+            entityManager.refresh(stats);
+            assertThat(stats.getFinishedCount()).isEqualTo(count(professional, "FINISHED"));
+            assertThat(stats.getCancelledCount()).isEqualTo(count(professional, "CANCELLED"));
+            assertThat(stats.getRejectedCount()).isEqualTo(count(professional, "REJECTED"));
+        }
+        assertThat(entityManager.find(ProfessionalStats.class, experienced.getId()).getFinishedCount()).isEqualTo(3);
+    }
+
+    @Test
+    void missingCountersAreSeededFromTheAppointmentTable() {
+        Professional legacy = persistProfessional("Davi", "ranking-davi@email.com");
+        entityManager.remove(entityManager.find(ProfessionalStats.class, legacy.getId()));
+        for (int i = 0; i < 2; i++) {
+            entityManager.find(Appointment.class, appointment(legacy)).setStatus("FINISHED");
+        }
+        entityManager.find(Appointment.class, appointment(legacy)).setStatus("CANCELLED");
+        entityManager.flush();
+
+        finish(appointment(legacy));
+        entityManager.flush();
+
+        ProfessionalStats stats = entityManager.find(ProfessionalStats.class, legacy.getId());
+        entityManager.refresh(stats);
+        assertThat(stats.getFinishedCount()).isEqualTo(3);
+        assertThat(stats.getCancelledCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rankingReadsOnlyTheCountersInOneQueryPerPage() {
+        finish(appointment(experienced));
+        finish(appointment(experienced));
+        finish(appointment(newcomer));
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics.clear();
+        ProfessionalRankingPageResponseDTO first = professionalRankingService.findRankingPage(null, 2);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(first.content()).extracting(ProfessionalRankingResponseDTO::name).containsExactly("Ana", "Bruno");
+        assertThat(first.content()).extracting(ProfessionalRankingResponseDTO::finishedAppointments)
+                .containsExactly(2L, 1L);
+        assertThat(first.nextCursor()).isNotNull();
+
+        ProfessionalRankingPageResponseDTO rest = professionalRankingService.findRankingPage(first.nextCursor(), 100);
+        assertThat(rest.content()).extracting(ProfessionalRankingResponseDTO::id).contains(idle.getId())
+                .doesNotContain(experienced.getId(), newcomer.getId());
+        assertThat(rest.nextCursor()).isNull();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void concurrentFinishOfTheSameAppointmentIsCountedOnce() throws Exception {
+        try {
+            for (int round = 0; round < 5; round++) {
+                UUID appointmentId = transactionTemplate.execute(status -> {
+                    customer = entityManager.find(User.class, customer.getId());
+                    return appointment(entityManager.find(Professional.class, experienced.getId()));
+                });
+                CountDownLatch start = new CountDownLatch(1);
+                try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+                    List<Future<?>> calls = List.of(
+                            executor.submit(() -> finishAfter(start, appointmentId)),
+                            executor.submit(() -> finishAfter(start, appointmentId)));
+                    start.countDown();
+                    for (Future<?> call : calls) {
+                        call.get();
+                    }
+                }
+            }
+
+            assertThat(jdbcTemplate.queryForObject(
+                    "select finished_count from tb_professional_stats where professional_id = ?", Long.class,
+                    experienced.getId())).isEqualTo(5);
+        } finally {
+            String professionals = "select id from tb_professional where user_id in "
+                    + "(select id from tb_user where email like 'ranking-%')";
+            jdbcTemplate.update("delete from tb_appointment where professional_id in (" + professionals + ")");
+            jdbcTemplate.update("delete from tb_schedule where professional_id in (" + professionals + ")");
+            jdbcTemplate.update("delete from tb_service where professional_id in (" + professionals + ")");
+            jdbcTemplate.update("delete from tb_professional_stats where professional_id in (" + professionals + ")");
+            jdbcTemplate.update("delete from tb_professional where id in (" + professionals + ")");
+            jdbcTemplate.update("delete from tb_user where email like 'ranking-%'");
+        }
+    }
+
+    private Void finishAfter(CountDownLatch start, UUID appointmentId) throws InterruptedException {
+        start.await();
+        finish(appointmentId);
+        return null;
+    }
+
+    private void finish(UUID appointmentId) {
+        appointmentService.updateStatus(appointmentId, "FINISHED");
+    }
+
+    private UUID appointment(Professional professional) {
+        ServiceEntity service = new ServiceEntity(null, professional, 100.0, "Interpretação", null);
+        entityManager.persist(service);
+        LocalDate date = LocalDate.of(2024, 9, 1).plusDays(appointments++);
+        Schedule schedule = new Schedule(null, professional, date, LocalTime.of(9, 0), LocalTime.of(10, 0));
+        entityManager.persist(schedule);
+        Appointment appointment = new Appointment(null, customer, professional, service, schedule, "PENDING");
+        entityManager.persist(appointment);
+        return appointment.getId();
+    }
+
+    private long count(Professional professional, String status) {
+        entityManager.flush();
+        return jdbcTemplate.queryForObject(
+                "select count(*) from tb_appointment where professional_id = ? and status = ?", Long.class,
+                professional.getId(), status);
+    }
+
+    private User persistUser(String name, String email) {
+        return TestEntities.persistUser(entityManager, name, email);
+    }
+
+    private Professional persistProfessional(String name, String email) {
+        Professional professional = TestEntities.persistProfessional(entityManager, persistUser(name, email));
+        entityManager.persist(ProfessionalStats.empty(professional.getId()));
+        return professional;
+    }
+}
@@ -0,0 +1,100 @@
+package com.connectdeaf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.connectdeaf.controllers.dtos.response.ProfessionalDirectoryPageResponseDTO;
+import com.connectdeaf.controllers.dtos.response.ProfessionalSummaryResponseDTO;
+import com.connectdeaf.domain.user.User;
+import com.connectdeaf.exceptions.InvalidCursorException;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ProfessionalServiceDirectoryTest {
+
+    @Autowired
+    private ProfessionalService professionalService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // Dois endereços não podem duplicar o profissional na listagem
+        persistProfessional("Ana", "Libras", "Interpretação", "Recife", "Olinda");
+        persistProfessional("Bruno", "Libras", "Guia-intérprete", "Recife");
+        persistProfessional("Carla", "Tradutora", "Interpretação");
+        persistProfessional("Ana", "Libras", "Interpretação", "Caruaru");
+        persistProfessional("Diego", "Libras", "interpretação", "Recife");
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void walksTheDirectoryWithOneQueryPerPage() {
+        List<ProfessionalSummaryResponseDTO> all = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            statistics.clear();
+            ProfessionalDirectoryPageResponseDTO page = professionalService.findDirectoryPage(null, null, cursor, 2);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            all.addAll(page.content());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(all).extracting(ProfessionalSummaryResponseDTO::name)
+                .containsExactly("Ana", "Ana", "Bruno", "Carla", "Diego");
+        assertThat(all).extracting(ProfessionalSummaryResponseDTO::id).doesNotHaveDuplicates();
+        assertThat(all).filteredOn(p -> p.name().equals("Carla"))
+                .extracting(ProfessionalSummaryResponseDTO::city)
+                .containsExactly((String) null);
+    }
+
+    @Test
+    void filtersByAreaOfExpertiseAndQualificationIgnoringCase() {
+        ProfessionalDirectoryPageResponseDTO page = professionalService.findDirectoryPage(" INTERPRETAÇÃO ", "libras",
+                null, 20);
+
+        assertThat(page.content()).extracting(ProfessionalSummaryResponseDTO::name)
+                .containsExactly("Ana", "Ana", "Diego");
+        assertThat(page.content()).extracting(ProfessionalSummaryResponseDTO::city)
+                .containsExactlyInAnyOrder("Olinda", "Caruaru", "Recife");
+        assertThat(page.nextCursor()).isNull();
+
+        assertThatThrownBy(() -> professionalService.findDirectoryPage(null, null, "not-a-cursor", 20))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    private void persistProfessional(String name, String qualification, String areaOfExpertise, String... cities) {
+        User user = TestEntities.persistUser(entityManager, name, name.toLowerCase() + System.nanoTime() + "@email.com",
+                cities);
+        TestEntities.persistProfessional(entityManager, user, qualification, areaOfExpertise, LocalTime.of(8, 0),
+                LocalTime.of(17, 0));
+    }
+}
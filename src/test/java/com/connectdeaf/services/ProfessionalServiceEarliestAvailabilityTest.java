@@ -0,0 +1,99 @@
+package com.connectdeaf.services;
+
+import static com.connectdeaf.services.TestEntities.persistProfessional;
+import static com.connectdeaf.services.TestEntities.persistUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.connectdeaf.controllers.dtos.response.AvailableSlotResponseDTO;
+import com.connectdeaf.domain.professional.Professional;
+import com.connectdeaf.domain.schedule.Schedule;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ProfessionalServiceEarliestAvailabilityTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 8, 5);
+
+    @Autowired
+    private ProfessionalService professionalService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Professional recife;
+    private Professional olinda;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        recife = persistProfessional(entityManager, persistUser(entityManager, "Intérprete Recife", "recife@email.com",
+                "Recife"), "Libras", "Libras", LocalTime.of(8, 0), LocalTime.of(12, 0));
+        olinda = persistProfessional(entityManager, persistUser(entityManager, "Intérprete Olinda", "olinda@email.com",
+                "Olinda"), "Libras", "libras", LocalTime.of(9, 0), LocalTime.of(11, 0));
+        persistProfessional(entityManager, persistUser(entityManager, "Guia", "guia@email.com", "Recife"), "Libras",
+                "Guia-intérprete", LocalTime.of(7, 0), LocalTime.of(8, 0));
+
+        entityManager.persist(new Schedule(null, recife, DAY, LocalTime.of(8, 0), LocalTime.of(9, 0)));
+        entityManager.persist(new Schedule(null, olinda, DAY, LocalTime.of(9, 0), LocalTime.of(10, 0)));
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void mergesCandidatesEarliestFirstWithBatchLoading() {
+        List<AvailableSlotResponseDTO> slots = professionalService.findEarliestAvailable("LIBRAS", null,
+                DAY.atStartOfDay(), 4);
+
+        assertThat(slots).extracting(AvailableSlotResponseDTO::startTime)
+                .containsExactly(LocalTime.of(9, 0), LocalTime.of(10, 0), LocalTime.of(10, 0), LocalTime.of(11, 0));
+        assertThat(slots).extracting(AvailableSlotResponseDTO::date).containsOnly(DAY);
+        assertThat(slots.get(0).professionalId()).isEqualTo(recife.getId());
+        assertThat(slots.get(3).professionalId()).isEqualTo(recife.getId());
+        // Candidatos, profissionais e reservas da semana: uma consulta cada
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void filtersByCityAndStartingTime() {
+        List<AvailableSlotResponseDTO> slots = professionalService.findEarliestAvailable("Libras", "recife",
+                DAY.atTime(10, 30), 3);
+
+        assertThat(slots).extracting(AvailableSlotResponseDTO::professionalId).containsOnly(recife.getId());
+        assertThat(slots).extracting(AvailableSlotResponseDTO::date, AvailableSlotResponseDTO::startTime)
+                .containsExactly(
+                        tuple(DAY, LocalTime.of(11, 0)),
+                        tuple(DAY.plusDays(1), LocalTime.of(8, 0)),
+                        tuple(DAY.plusDays(1), LocalTime.of(9, 0)));
+    }
+
+    @Test
+    void returnsEmptyWhenNoProfessionalMatches() {
+        assertThat(professionalService.findEarliestAvailable("Tradução", null, DAY.atStartOfDay(), 5)).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,93 @@
+package com.connectdeaf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.connectdeaf.controllers.dtos.requests.UserRequestDTO;
+import com.connectdeaf.exceptions.EmailAlreadyExistsException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class RegisteredEmailFilterTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void newEmailIsAcceptedWithoutALookupAndRepeatsAreCaughtIgnoringCase() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        double misses = checks("miss");
+        double hits = checks("hit");
+
+        statistics.clear();
+        userService.createUser(request("Filtro@Email.com"), false);
+
+        assertThat(statistics.getQueryExecutionCount()).isZero();
+        assertThat(checks("miss")).isEqualTo(misses + 1);
+
+        assertThatThrownBy(() -> userService.createUser(request("filtro@email.COM"), false))
+                .isInstanceOf(EmailAlreadyExistsException.class);
+        assertThat(checks("hit")).isEqualTo(hits + 1);
+    }
+
+    @Test
+    void emailMissingFromTheFilterIsStillRejectedByTheUniqueIndex() {
+        // Gravado por fora (outro nó, SQL manual): o filtro não sabe dele
+        jdbcTemplate.update("insert into tb_user (id, name, email, password, phone_number) values (?, ?, ?, ?, ?)",
+                UUID.randomUUID(), "Outro nó", "outro-no@email.com", "secret", "81999999999");
+
+        assertThatThrownBy(() -> userService.createUser(request("outro-no@email.com"), false))
+                .isInstanceOf(EmailAlreadyExistsException.class);
+    }
+
+    @Test
+    void bloomFilterHasNoFalseNegativesAndStaysNearItsRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("cadastrado-" + i + "@email.com");
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("cadastrado-" + i + "@email.com")).isTrue();
+            if (filter.mightContain("novo-" + i + "@email.com")) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives / 10_000.0).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.015);
+    }
+
+    private double checks(String result) {
+        return meterRegistry.get("users.email.filter.checks").tag("result", result).counter().count();
+    }
+
+    private static UserRequestDTO request(String email) {
+        return new UserRequestDTO("Filtro", email, "senha", "81999999999", List.of());
+    }
+}
@@ -0,0 +1,88 @@
+package com.connectdeaf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.connectdeaf.controllers.dtos.requests.LoginRequestDTO;
+import com.connectdeaf.controllers.dtos.requests.UserRequestDTO;
+import com.connectdeaf.domain.user.Role;
+import com.connectdeaf.domain.user.User;
+import com.connectdeaf.services.invalidation.CacheInvalidation;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class RoleRegistryTest {
+
+    @Autowired
+    private RoleRegistry roleRegistry;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void registryHoldsEverySeededRoleAndSurvivesAReload() {
+        for (Role.Values value : Role.Values.values()) {
+            assertThat(roleRegistry.get(value).getId()).isEqualTo(value.getId());
+            assertThat(roleRegistry.get(value).getName()).isEqualTo(value.name());
+        }
+
+        roleRegistry.onInvalidation(CacheInvalidation.all());
+        assertThat(roleRegistry.get(Role.Values.ROLE_ADMIN).getId()).isEqualTo(Role.Values.ROLE_ADMIN.getId());
+    }
+
+    @Test
+    void signupAndLoginIssueNoRoleQueries() {
+        statistics.clear();
+        userService.createUser(new UserRequestDTO("Papéis", "papeis@email.com", "senha", "81999999999", List.of()),
+                true);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityStatistics(Role.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getQueries()).noneMatch(query -> query.contains("Role"));
+
+        entityManager.clear();
+        statistics.clear();
+        String token = authService.login(new LoginRequestDTO("papeis@email.com", "senha")).accessToken();
+
+        assertThat(jwtDecoder.decode(token).getClaimAsStringList("roles"))
+                .containsExactly(Role.Values.ROLE_PROFESSIONAL.name());
+        // Usuário e papéis no mesmo SELECT; o outro é a busca do profissional
+        assertThat(statistics.getCollectionStatistics(User.class.getName() + ".roles").getFetchCount()).isZero();
+        assertThat(statistics.getQueries()).noneMatch(query -> query.contains("Role"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,181 @@
+package com.connectdeaf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.connectdeaf.controllers.dtos.requests.AppointmentRequestDTO;
+import com.connectdeaf.controllers.dtos.response.AppointmentResponseDTO;
+import com.connectdeaf.controllers.dtos.response.DayAvailabilityResponseDTO;
+import com.connectdeaf.controllers.dtos.response.ScheduleResponseDTO;
+import com.connectdeaf.domain.professional.Professional;
+import com.connectdeaf.domain.service.ServiceEntity;
+import com.connectdeaf.domain.user.User;
+import com.connectdeaf.exceptions.InvalidDateRangeException;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ScheduleAvailabilityIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 7, 1);
+
+    @Autowired
+    private ProfessionalService professionalService;
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private UUID customerId;
+    private UUID professionalId;
+    private UUID professionalUserId;
+    private UUID serviceId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate.executeWithoutResult(status -> {
+            User customer = new User("Cliente", "cliente-agenda@email.com", "secret", "81999999999");
+            entityManager.persist(customer);
+
+            User professionalUser = new User("Intérprete", "interprete-agenda@email.com", "secret", "81988888888");
+            entityManager.persist(professionalUser);
+            Professional professional = new Professional(null, "Libras", "Interpretação", professionalUser, null,
+                    LocalTime.of(8, 0), LocalTime.of(12, 0), Duration.ofHours(1));
+            entityManager.persist(professional);
+
+            ServiceEntity service = new ServiceEntity(null, professional, 100.0, "Interpretação", null);
+            entityManager.persist(service);
+
+            customerId = customer.getId();
+            professionalId = professional.getId();
+            professionalUserId = professionalUser.getId();
+            serviceId = service.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from tb_appointment where professional_id = ?", professionalId);
+        jdbcTemplate.update("delete from tb_schedule where professional_id = ?", professionalId);
+        jdbcTemplate.update("delete from tb_service where professional_id = ?", professionalId);
+        jdbcTemplate.update("delete from tb_professional where id = ?", professionalId);
+        jdbcTemplate.update("delete from tb_user where id in (?, ?)", customerId, professionalUserId);
+    }
+
+    @Test
+    void warmReadsDoNotQueryTheDatabase() {
+        assertThat(startTimes(professionalService.getSchedulesByProfessionalAndDate(professionalId, DAY)))
+                .containsExactly(LocalTime.of(8, 0), LocalTime.of(9, 0), LocalTime.of(10, 0), LocalTime.of(11, 0));
+
+        statistics.clear();
+        professionalService.getSchedulesByProfessionalAndDate(professionalId, DAY);
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void bookingAndDeletionUpdateTheWarmIndex() {
+        professionalService.getSchedulesByProfessionalAndDate(professionalId, DAY);
+
+        // Reserva fora da grade ocupa os dois slots que ela cruza
+        AppointmentResponseDTO appointment = appointmentService.createAppointment(new AppointmentRequestDTO(
+                customerId, professionalId, serviceId, DAY, LocalTime.of(9, 30), LocalTime.of(10, 30)));
+
+        statistics.clear();
+        assertThat(startTimes(professionalService.getSchedulesByProfessionalAndDate(professionalId, DAY)))
+                .containsExactly(LocalTime.of(8, 0), LocalTime.of(11, 0));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        appointmentService.deleteAppointment(appointment.id());
+
+        statistics.clear();
+        assertThat(startTimes(professionalService.getSchedulesByProfessionalAndDate(professionalId, DAY)))
+                .containsExactly(LocalTime.of(8, 0), LocalTime.of(9, 0), LocalTime.of(10, 0), LocalTime.of(11, 0));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        Integer schedules = jdbcTemplate.queryForObject(
+                "select count(*) from tb_schedule where professional_id = ?", Integer.class, professionalId);
+        assertThat(schedules).isZero();
+    }
+
+    @Test
+    void releasingOneBookingKeepsSharedSlotsOccupied() {
+        professionalService.getSchedulesByProfessionalAndDate(professionalId, DAY);
+
+        AppointmentResponseDTO first = appointmentService.createAppointment(new AppointmentRequestDTO(
+                customerId, professionalId, serviceId, DAY, LocalTime.of(9, 0), LocalTime.of(9, 30)));
+        appointmentService.createAppointment(new AppointmentRequestDTO(
+                customerId, professionalId, serviceId, DAY, LocalTime.of(9, 30), LocalTime.of(10, 0)));
+
+        appointmentService.deleteAppointment(first.id());
+
+        assertThat(startTimes(professionalService.getSchedulesByProfessionalAndDate(professionalId, DAY)))
+                .containsExactly(LocalTime.of(8, 0), LocalTime.of(10, 0), LocalTime.of(11, 0));
+    }
+
+    @Test
+    void rangeAvailabilityLoadsMissingDaysWithOneScheduleQuery() {
+        appointmentService.createAppointment(new AppointmentRequestDTO(
+                customerId, professionalId, serviceId, DAY.plusDays(3), LocalTime.of(10, 0), LocalTime.of(11, 0)));
+        // Um dia já aquecido no índice não é relido
+        professionalService.getSchedulesByProfessionalAndDate(professionalId, DAY.plusDays(10));
+
+        statistics.clear();
+        List<DayAvailabilityResponseDTO> month = professionalService.getAvailabilityByProfessional(professionalId,
+                DAY, DAY.plusDays(29));
+
+        assertThat(month).hasSize(30);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(month.get(0).schedules()).hasSize(4);
+        assertThat(startTimes(month.get(3).schedules()))
+                .containsExactly(LocalTime.of(8, 0), LocalTime.of(9, 0), LocalTime.of(11, 0));
+
+        statistics.clear();
+        professionalService.getAvailabilityByProfessional(professionalId, DAY, DAY.plusDays(29));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void rangeAvailabilityRejectsInvalidWindows() {
+        assertThatThrownBy(() -> professionalService.getAvailabilityByProfessional(professionalId, DAY,
+                DAY.minusDays(1))).isInstanceOf(InvalidDateRangeException.class);
+        assertThatThrownBy(() -> professionalService.getAvailabilityByProfessional(professionalId, DAY,
+                DAY.plusDays(90))).isInstanceOf(InvalidDateRangeException.class);
+    }
+
+    private List<LocalTime> startTimes(List<ScheduleResponseDTO> schedules) {
+        return schedules.stream().map(ScheduleResponseDTO::startTime).toList();
+    }
+}
@@ -0,0 +1,155 @@
+package com.connectdeaf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.connectdeaf.controllers.dtos.requests.AppointmentRequestDTO;
+import com.connectdeaf.controllers.dtos.response.AppointmentResponseDTO;
+import com.connectdeaf.controllers.dtos.response.ScheduleResponseDTO;
+import com.connectdeaf.domain.professional.Professional;
+import com.connectdeaf.domain.service.ServiceEntity;
+import com.connectdeaf.domain.user.User;
+import com.connectdeaf.exceptions.ScheduleConflictException;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ScheduleBookingServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final LocalDate DAY = LocalDate.of(2024, 6, 3);
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID customerId;
+    private UUID professionalId;
+    private UUID professionalUserId;
+    private UUID serviceId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User customer = new User("Cliente", "cliente-concorrente@email.com", "secret", "81999999999");
+            entityManager.persist(customer);
+
+            User professionalUser = new User("Intérprete", "interprete-concorrente@email.com", "secret",
+                    "81988888888");
+            entityManager.persist(professionalUser);
+            Professional professional = new Professional(null, "Libras", "Interpretação", professionalUser, null,
+                    LocalTime.of(8, 0), LocalTime.of(17, 0), Duration.ofHours(1));
+            entityManager.persist(professional);
+
+            ServiceEntity service = new ServiceEntity(null, professional, 100.0, "Interpretação", null);
+            entityManager.persist(service);
+
+            customerId = customer.getId();
+            professionalId = professional.getId();
+            professionalUserId = professionalUser.getId();
+            serviceId = service.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from tb_appointment where professional_id = ?", professionalId);
+        jdbcTemplate.update("delete from tb_schedule where professional_id = ?", professionalId);
+        jdbcTemplate.update("delete from tb_service where professional_id = ?", professionalId);
+        jdbcTemplate.update("delete from tb_professional where id = ?", professionalId);
+        jdbcTemplate.update("delete from tb_user where id in (?, ?)", customerId, professionalUserId);
+    }
+
+    @Test
+    void concurrentBookingsNeverOverlap() throws InterruptedException {
+        // Janelas de 1h começando a cada 30min: vizinhas sempre se sobrepõem
+        List<LocalTime> candidateStarts = new ArrayList<>();
+        for (LocalTime start = LocalTime.of(8, 0); start.isBefore(LocalTime.of(16, 30)); start = start.plusMinutes(30)) {
+            candidateStarts.add(start);
+        }
+
+        Queue<ScheduleResponseDTO> booked = new ConcurrentLinkedQueue<>();
+        AtomicInteger conflicts = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        for (int t = 0; t < THREADS; t++) {
+            List<LocalTime> attempts = new ArrayList<>(candidateStarts);
+            Collections.shuffle(attempts);
+            executor.submit(() -> {
+                start.await();
+                for (LocalTime slotStart : attempts) {
+                    try {
+                        AppointmentResponseDTO appointment = appointmentService.createAppointment(
+                                new AppointmentRequestDTO(customerId, professionalId, serviceId, DAY, slotStart,
+                                        slotStart.plusHours(1)));
+                        booked.add(appointment.schedule());
+                    } catch (ScheduleConflictException e) {
+                        conflicts.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+        int attempts = THREADS * candidateStarts.size();
+        assertThat(booked.size() + conflicts.get()).isEqualTo(attempts);
+
+        List<ScheduleResponseDTO> schedules = new ArrayList<>(booked);
+        for (int i = 0; i < schedules.size(); i++) {
+            for (int j = i + 1; j < schedules.size(); j++) {
+                ScheduleResponseDTO a = schedules.get(i);
+                ScheduleResponseDTO b = schedules.get(j);
+                assertThat(a.startTime().isBefore(b.endTime()) && b.startTime().isBefore(a.endTime()))
+                        .as("%s-%s overlaps %s-%s", a.startTime(), a.endTime(), b.startTime(), b.endTime())
+                        .isFalse();
+            }
+        }
+
+        // Nenhuma janela candidata ficou livre sem conflitar com uma reservada
+        for (LocalTime slotStart : candidateStarts) {
+            LocalTime slotEnd = slotStart.plusHours(1);
+            assertThat(schedules).anyMatch(s -> s.startTime().isBefore(slotEnd) && slotStart.isBefore(s.endTime()));
+        }
+
+        Integer persisted = jdbcTemplate.queryForObject(
+                "select count(*) from tb_schedule where professional_id = ?", Integer.class, professionalId);
+        assertThat(persisted).isEqualTo(booked.size());
+    }
+}
@@ -0,0 +1,77 @@
+package com.connectdeaf.services;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.connectdeaf.domain.schedule.Schedule;
+
+// Fora do mvn test: após mvn test-compile, rode org.openjdk.jmh.Main ScheduleIntervalsBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScheduleIntervalsBenchmark {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 9, 2);
+
+    private final ScheduleIntervals intervals = new ScheduleIntervals();
+    private final List<Schedule> schedules = new ArrayList<>();
+    private final LocalTime[] queries = new LocalTime[1_024];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        // Reservas de 1 minuto espalhadas no dia, sem sobreposição
+        for (int minute = 0; minute < 1_440; minute += 2) {
+            LocalTime start = LocalTime.ofSecondOfDay(minute * 60L);
+            intervals.add(start, start.plusMinutes(1));
+            schedules.add(new Schedule(null, null, DAY, start, start.plusMinutes(1)));
+        }
+        Random random = new Random(7);
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = LocalTime.ofSecondOfDay(random.nextInt(1_439) * 60L);
+        }
+    }
+
+    @Benchmark
+    public boolean streamScan() {
+        LocalTime start = nextQuery();
+        LocalTime end = start.plusSeconds(30);
+        return schedules.stream()
+                .anyMatch(schedule -> schedule.getStartTime().isBefore(end) && schedule.getEndTime().isAfter(start));
+    }
+
+    @Benchmark
+    public boolean intervalIndex() {
+        LocalTime start = nextQuery();
+        return intervals.overlaps(start, start.plusSeconds(30));
+    }
+
+    private LocalTime nextQuery() {
+        return queries[next++ & (queries.length - 1)];
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ScheduleIntervalsBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,65 @@
+package com.connectdeaf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.connectdeaf.domain.schedule.Schedule;
+
+class ScheduleIntervalsTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 9, 2);
+
+    @Test
+    void detectsPartialAndNestedOverlaps() {
+        ScheduleIntervals intervals = new ScheduleIntervals();
+        intervals.add(time(540), time(600));
+        intervals.add(time(570), time(660));
+
+        assertThat(intervals.overlaps(time(480), time(540))).isFalse();
+        assertThat(intervals.overlaps(time(660), time(720))).isFalse();
+        assertThat(intervals.overlaps(time(590), time(595))).isTrue();
+        assertThat(intervals.overlaps(time(655), time(700))).isTrue();
+
+        // Remover uma reserva mantém ocupado o trecho coberto pela outra
+        intervals.remove(time(570), time(660));
+        assertThat(intervals.overlaps(time(600), time(660))).isFalse();
+        assertThat(intervals.overlaps(time(599), time(660))).isTrue();
+    }
+
+    @Test
+    void matchesLinearScanOnRandomBookings() {
+        Random random = new Random(42);
+        ScheduleIntervals intervals = new ScheduleIntervals();
+        List<Schedule> schedules = new ArrayList<>();
+
+        for (int step = 0; step < 5_000; step++) {
+            LocalTime start = time(random.nextInt(1_380));
+            LocalTime end = start.plusMinutes(1 + random.nextInt(59));
+            if (random.nextInt(3) == 0 && !schedules.isEmpty()) {
+                Schedule removed = schedules.remove(random.nextInt(schedules.size()));
+                assertThat(intervals.remove(removed.getStartTime(), removed.getEndTime())).isTrue();
+            } else if (intervals.add(start, end)) {
+                schedules.add(new Schedule(null, null, DAY, start, end));
+            }
+            assertThat(intervals.overlaps(start, end)).isEqualTo(overlapsLinear(schedules, start, end));
+        }
+        assertThat(intervals.size()).isEqualTo(schedules.size());
+    }
+
+    // Verificação usada antes do índice: varre todas as reservas do dia
+    private static boolean overlapsLinear(List<Schedule> schedules, LocalTime start, LocalTime end) {
+        return schedules.stream()
+                .anyMatch(schedule -> schedule.getStartTime().isBefore(end) && schedule.getEndTime().isAfter(start));
+    }
+
+    private static LocalTime time(int minuteOfDay) {
+        return minuteOfDay >= 1_440 ? LocalTime.MAX : LocalTime.ofSecondOfDay(minuteOfDay * 60L);
+    }
+}
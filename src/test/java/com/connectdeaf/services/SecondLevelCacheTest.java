@@ -0,0 +1,153 @@
+package com.connectdeaf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.connectdeaf.domain.address.Address;
+import com.connectdeaf.domain.professional.Professional;
+import com.connectdeaf.domain.user.Role;
+import com.connectdeaf.domain.user.User;
+import com.connectdeaf.repositories.RoleRepository;
+import com.connectdeaf.services.invalidation.CacheInvalidation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private SecondLevelCacheInvalidator secondLevelCacheInvalidator;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private Cache cache;
+    private UUID professionalId;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+        cache = sessionFactory.getCache();
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = new User("Intérprete", "segundo-nivel@email.com", "secret", "81988888888");
+            entityManager.persist(user);
+            Professional professional = new Professional(null, "Libras", "Interpretação", user, null,
+                    LocalTime.of(8, 0), LocalTime.of(12, 0), Duration.ofHours(1));
+            entityManager.persist(professional);
+
+            professionalId = professional.getId();
+            userId = user.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from tb_address where user_id = ?", userId);
+        jdbcTemplate.update("delete from tb_professional where id = ?", professionalId);
+        jdbcTemplate.update("delete from tb_user where id = ?", userId);
+        cache.evictAllRegions();
+    }
+
+    @Test
+    void roleLookupIsServedFromTheQueryCache() {
+        Role role = roleRepository.findByName(Role.Values.ROLE_USER.name());
+
+        statistics.clear();
+        Role cached = roleRepository.findByName(Role.Values.ROLE_USER.name());
+
+        assertThat(cached.getId()).isEqualTo(role.getId());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void professionalAndUserAreReadFromTheCacheAcrossTransactions() {
+        transactionTemplate.executeWithoutResult(status -> entityManager.find(Professional.class, professionalId));
+
+        statistics.clear();
+        String name = transactionTemplate.execute(status -> entityManager.find(Professional.class, professionalId)
+                .getUser().getName());
+
+        assertThat(name).isEqualTo("Intérprete");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics("professionals").getHitCount()).isEqualTo(1);
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests")
+                .tags("region", "professionals", "result", "hit").functionCounter()).isNotNull();
+    }
+
+    @Test
+    void newAddressEvictsTheCachedCollection() {
+        // Aquece a coleção de endereços (vazia) no cache
+        assertThat(addressCount()).isZero();
+        assertThat(cache.containsCollection(User.class.getName() + ".addresses", userId)).isTrue();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Address address = new Address();
+            address.setCep("50000-000");
+            address.setStreet("Rua da Aurora");
+            address.setNumber("10");
+            address.setNeighborhood("Boa Vista");
+            address.setCity("Recife");
+            address.setState("PE");
+            address.setUser(entityManager.getReference(User.class, userId));
+            entityManager.persist(address);
+        });
+
+        assertThat(addressCount()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidatorDropsEntriesChangedOnAnotherNode() {
+        transactionTemplate.executeWithoutResult(status -> entityManager.find(Professional.class, professionalId)
+                .getUser().getAddresses().size());
+        assertThat(cache.containsEntity(Professional.class, professionalId)).isTrue();
+        assertThat(cache.containsEntity(User.class, userId)).isTrue();
+
+        secondLevelCacheInvalidator.onInvalidation(CacheInvalidation.professional(professionalId));
+        secondLevelCacheInvalidator.onInvalidation(CacheInvalidation.user(userId));
+
+        assertThat(cache.containsEntity(Professional.class, professionalId)).isFalse();
+        assertThat(cache.containsEntity(User.class, userId)).isFalse();
+        assertThat(cache.containsCollection(User.class.getName() + ".addresses", userId)).isFalse();
+    }
+
+    private int addressCount() {
+        return transactionTemplate.execute(status -> entityManager.find(User.class, userId).getAddresses().size());
+    }
+}
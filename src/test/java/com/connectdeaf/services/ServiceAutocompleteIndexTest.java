@@ -0,0 +1,97 @@
+package com.connectdeaf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.connectdeaf.controllers.dtos.requests.ServiceRequestDTO;
+import com.connectdeaf.controllers.dtos.response.ServiceResponseDTO;
+import com.connectdeaf.controllers.dtos.response.ServiceSuggestionResponseDTO;
+import com.connectdeaf.domain.professional.Professional;
+import com.connectdeaf.domain.service.ServiceEntity;
+import com.connectdeaf.domain.user.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ServiceAutocompleteIndexTest {
+
+    @Autowired
+    private ServiceService serviceService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private UUID professionalId;
+    private UUID professionalUserId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = new User("Intérprete", "autocomplete@email.com", "secret", "81988888888");
+            entityManager.persist(user);
+            Professional professional = new Professional(null, "Libras", "Interpretação", user, null,
+                    LocalTime.of(8, 0), LocalTime.of(12, 0), Duration.ofHours(1));
+            entityManager.persist(professional);
+            entityManager.persist(new ServiceEntity(null, professional, 90.0, "Audiodescrição de eventos", null));
+
+            professionalId = professional.getId();
+            professionalUserId = user.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from tb_service where professional_id = ?", professionalId);
+        jdbcTemplate.update("delete from tb_professional where id = ?", professionalId);
+        jdbcTemplate.update("delete from tb_user where id = ?", professionalUserId);
+    }
+
+    @Test
+    void suggestionsAreServedFromMemoryAndFollowCreateAndDelete() {
+        assertThat(serviceService.autocompleteServices("AUDIODESCRICAO", 10))
+                .extracting(ServiceSuggestionResponseDTO::name)
+                .containsExactly("Audiodescrição de eventos");
+
+        statistics.clear();
+        serviceService.autocompleteServices("audio", 10);
+        serviceService.autocompleteServices("eventos", 10);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        ServiceResponseDTO created = serviceService.createService(professionalId,
+                new ServiceRequestDTO("Áudio-guia em museus", null, 60.0));
+        assertThat(serviceService.autocompleteServices("audio", 10))
+                .extracting(ServiceSuggestionResponseDTO::name)
+                .containsExactly("Áudio-guia em museus",
+                        "Audiodescrição de eventos");
+
+        serviceService.deleteService(created.id());
+        assertThat(serviceService.autocompleteServices("museus", 10)).isEmpty();
+    }
+}
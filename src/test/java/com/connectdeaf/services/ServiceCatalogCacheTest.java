@@ -0,0 +1,163 @@
+package com.connectdeaf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.connectdeaf.controllers.dtos.requests.ProfessionalRequestDTO;
+import com.connectdeaf.controllers.dtos.requests.ServiceRequestDTO;
+import com.connectdeaf.controllers.dtos.response.ServiceResponseDTO;
+import com.connectdeaf.domain.professional.Professional;
+import com.connectdeaf.domain.service.ServiceEntity;
+import com.connectdeaf.domain.user.User;
+import com.connectdeaf.exceptions.ServiceNotFoundException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ServiceCatalogCacheTest {
+
+    @Autowired
+    private ServiceService serviceService;
+
+    @Autowired
+    private ProfessionalService professionalService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private UUID professionalId;
+    private UUID professionalUserId;
+    private UUID serviceId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = new User("Intérprete", "catalogo@email.com", "secret", "81988888888");
+            entityManager.persist(user);
+            Professional professional = new Professional(null, "Libras", "Interpretação", user, null,
+                    LocalTime.of(8, 0), LocalTime.of(12, 0), Duration.ofHours(1));
+            entityManager.persist(professional);
+            ServiceEntity service = new ServiceEntity(null, professional, 100.0, "Interpretação", null);
+            entityManager.persist(service);
+
+            professionalId = professional.getId();
+            professionalUserId = user.getId();
+            serviceId = service.getId();
+        });
+        // Cada teste parte de um catálogo limpo
+        serviceService.deleteService(serviceService.createService(professionalId,
+                new ServiceRequestDTO("Temporário", null, 1.0)).id());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from tb_service where professional_id = ?", professionalId);
+        jdbcTemplate.update("delete from tb_professional where id = ?", professionalId);
+        jdbcTemplate.update("delete from tb_user where id = ?", professionalUserId);
+    }
+
+    @Test
+    void repeatedReadsAreServedFromCache() {
+        double hitsBefore = hits("serviceCatalog");
+        assertThat(serviceService.findAllServices()).extracting(ServiceResponseDTO::id).contains(serviceId);
+
+        statistics.clear();
+        serviceService.findAllServices();
+        serviceService.findServiceById(serviceId);
+        serviceService.findServiceById(serviceId);
+        serviceService.findServicesByProfessional(professionalId);
+        serviceService.findServicesByProfessional(professionalId);
+
+        // Apenas a primeira leitura de cada serviço isolado e da lista do profissional vai ao banco
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(7);
+        assertThat(hits("serviceCatalog")).isEqualTo(hitsBefore + 1);
+        assertThat(hits("services")).isPositive();
+    }
+
+    @Test
+    void cacheHitsOpenNoTransaction() {
+        serviceService.findAllServices();
+        serviceService.findServiceById(serviceId);
+        serviceService.findServicesByProfessional(professionalId);
+
+        statistics.clear();
+        serviceService.findAllServices();
+        serviceService.findServiceById(serviceId);
+        serviceService.findServicesByProfessional(professionalId);
+
+        assertThat(statistics.getTransactionCount()).isZero();
+        assertThat(statistics.getConnectCount()).isZero();
+    }
+
+    @Test
+    void createAndDeleteEvictAffectedEntries() {
+        serviceService.findAllServices();
+        serviceService.findServicesByProfessional(professionalId);
+
+        ServiceResponseDTO created = serviceService.createService(professionalId,
+                new ServiceRequestDTO("Aula de Libras", "Básico", 80.0));
+        assertThat(serviceService.findAllServices()).extracting(ServiceResponseDTO::id).contains(created.id());
+        assertThat(serviceService.findServicesByProfessional(professionalId))
+                .extracting(ServiceResponseDTO::name)
+                .containsExactly("Aula de Libras", "Interpretação");
+
+        serviceService.findServiceById(created.id());
+        serviceService.deleteService(created.id());
+        assertThatThrownBy(() -> serviceService.findServiceById(created.id()))
+                .isInstanceOf(ServiceNotFoundException.class);
+        assertThat(serviceService.findServicesByProfessional(professionalId)).hasSize(1);
+    }
+
+    @Test
+    void professionalUpdateRefreshesEmbeddedProfessional() {
+        serviceService.findServiceById(serviceId);
+        serviceService.findAllServices();
+
+        professionalService.updateProfessional(professionalId, new ProfessionalRequestDTO("Novo Nome",
+                "catalogo@email.com", null, "81988888888", List.of(), "Libras", "Guia-intérprete",
+                null, null, null));
+
+        assertThat(serviceService.findServiceById(serviceId).professional().name()).isEqualTo("Novo Nome");
+        assertThat(serviceService.findAllServices())
+                .filteredOn(service -> service.id().equals(serviceId))
+                .extracting(service -> service.professional().areaOfExpertise())
+                .containsExactly("Guia-intérprete");
+    }
+
+    private double hits(String cache) {
+        return meterRegistry.get("cache.gets").tag("cache", cache).tag("result", "hit").functionCounter().count();
+    }
+}
@@ -0,0 +1,79 @@
+package com.connectdeaf.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.connectdeaf.controllers.dtos.response.ServiceSuggestionResponseDTO;
+
+// Fora do mvn test: após mvn test-compile, rode org.openjdk.jmh.Main ServiceNamePrefixesBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServiceNamePrefixesBenchmark {
+
+    private static final int LIMIT = 10;
+
+    @Param({"in", "tradu", "consulta m", "online p"})
+    private String query;
+
+    private final ServiceNamePrefixes prefixes = new ServiceNamePrefixes();
+    private final List<String> names = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        String[] words = {"Interpretação", "Libras", "Aula", "Tradução", "Guia", "Consulta", "Audiência", "Médica",
+                "Jurídica", "Escolar", "Empresarial", "Básico", "Avançado", "Online", "Presencial", "Evento"};
+        Random random = new Random(11);
+        for (int i = 0; i < 50_000; i++) {
+            String name = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)] + " "
+                    + i;
+            names.add(name);
+            prefixes.put(UUID.randomUUID(), name);
+        }
+    }
+
+    @Benchmark
+    public int linearScan() {
+        String prefix = ServiceNamePrefixes.normalize(query);
+        int hits = 0;
+        for (String name : names) {
+            String normalized = ServiceNamePrefixes.normalize(name);
+            if (normalized.startsWith(prefix) || normalized.contains(" " + prefix)) {
+                if (++hits == LIMIT) {
+                    break;
+                }
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public List<ServiceSuggestionResponseDTO> prefixIndex() {
+        return prefixes.suggest(query, LIMIT);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ServiceNamePrefixesBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,97 @@
+package com.connectdeaf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.connectdeaf.controllers.dtos.response.ServiceSuggestionResponseDTO;
+
+class ServiceNamePrefixesTest {
+
+    @Test
+    void matchesIgnoringAccentsCaseAndPunctuation() {
+        ServiceNamePrefixes prefixes = new ServiceNamePrefixes();
+        prefixes.put(UUID.randomUUID(), "Interpretação médica");
+        prefixes.put(UUID.randomUUID(), "Tradução de Documentos");
+        prefixes.put(UUID.randomUUID(), "Áudio-descrição");
+
+        assertThat(names(prefixes.suggest("INTERPRETACAO m", 10))).containsExactly("Interpretação médica");
+        assertThat(names(prefixes.suggest("tradu", 10))).containsExactly("Tradução de Documentos");
+        assertThat(names(prefixes.suggest("audio desc", 10))).containsExactly("Áudio-descrição");
+        assertThat(names(prefixes.suggest("descri", 10))).containsExactly("Áudio-descrição");
+        assertThat(prefixes.suggest(" - ", 10)).isEmpty();
+    }
+
+    @Test
+    void ranksWholeNameMatchesBeforeWordMatchesAndSkipsStopWords() {
+        ServiceNamePrefixes prefixes = new ServiceNamePrefixes();
+        prefixes.put(UUID.randomUUID(), "Aula de Libras");
+        prefixes.put(UUID.randomUUID(), "Libras para empresas");
+        prefixes.put(UUID.randomUUID(), "Libras básico");
+
+        assertThat(names(prefixes.suggest("lib", 10)))
+                .containsExactly("Libras básico", "Libras para empresas", "Aula de Libras");
+        assertThat(names(prefixes.suggest("lib", 2))).containsExactly("Libras básico", "Libras para empresas");
+        assertThat(prefixes.suggest("de", 10)).isEmpty();
+        assertThat(prefixes.suggest("para", 10)).isEmpty();
+    }
+
+    @Test
+    void renameAndRemoveReplacePreviousKeys() {
+        ServiceNamePrefixes prefixes = new ServiceNamePrefixes();
+        UUID id = UUID.randomUUID();
+        prefixes.put(id, "Aula particular");
+        prefixes.put(id, "Guia-intérprete");
+
+        assertThat(prefixes.suggest("aula", 10)).isEmpty();
+        assertThat(prefixes.suggest("interprete", 10)).extracting(ServiceSuggestionResponseDTO::id).containsExactly(id);
+
+        prefixes.remove(id);
+        assertThat(prefixes.size()).isZero();
+        assertThat(prefixes.suggest("guia", 10)).isEmpty();
+    }
+
+    @Test
+    void suggestsAsManyNamesAsTheLinearScan() {
+        String[] words = {"Interpretação", "Libras", "Aula", "Tradução", "Guia", "Consulta", "Audiência", "Médica",
+                "Jurídica", "Escolar", "Empresarial", "Básico", "Avançado", "Online", "Presencial", "Evento"};
+        Random random = new Random(11);
+        ServiceNamePrefixes prefixes = new ServiceNamePrefixes();
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            String name = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)] + " "
+                    + i;
+            names.add(name);
+            prefixes.put(UUID.randomUUID(), name);
+        }
+
+        for (String query : new String[] {"in", "lib", "tradu", "guia e", "consulta m", "audiencia", "esc",
+                "online p", "xyz"}) {
+            assertThat(prefixes.suggest(query, 10)).hasSize(linearScan(names, query, 10));
+        }
+    }
+
+    // Referência: normaliza e testa cada nome, como um LIKE 'prefixo%' sem índice
+    private static int linearScan(List<String> names, String query, int limit) {
+        String prefix = ServiceNamePrefixes.normalize(query);
+        int hits = 0;
+        for (String name : names) {
+            String normalized = ServiceNamePrefixes.normalize(name);
+            if (normalized.startsWith(prefix) || normalized.contains(" " + prefix)) {
+                if (++hits == limit) {
+                    break;
+                }
+            }
+        }
+        return hits;
+    }
+
+    private static List<String> names(List<ServiceSuggestionResponseDTO> suggestions) {
+        return suggestions.stream().map(ServiceSuggestionResponseDTO::name).toList();
+    }
+}
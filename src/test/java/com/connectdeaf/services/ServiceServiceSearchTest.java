@@ -0,0 +1,197 @@
+package com.connectdeaf.services;
+
+import static com.connectdeaf.services.TestEntities.persistProfessional;
+import static com.connectdeaf.services.TestEntities.persistUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.connectdeaf.controllers.dtos.response.FacetCountResponseDTO;
+import com.connectdeaf.controllers.dtos.response.ServicePageResponseDTO;
+import com.connectdeaf.controllers.dtos.response.ServiceResponseDTO;
+import com.connectdeaf.domain.professional.Professional;
+import com.connectdeaf.domain.service.ServiceEntity;
+import com.connectdeaf.exceptions.InvalidCursorException;
+import com.connectdeaf.exceptions.InvalidPageException;
+import com.connectdeaf.exceptions.InvalidPriceRangeException;
+import com.connectdeaf.exceptions.InvalidSortException;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ServiceServiceSearchTest {
+
+    @Autowired
+    private ServiceService serviceService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // Dois endereços na mesma cidade não podem duplicar os serviços no filtro por localização
+        Professional recife = persistProfessional(entityManager,
+                persistUser(entityManager, "Intérprete", "busca@email.com", " Recife", "Recife "));
+        Professional olinda = persistProfessional(entityManager,
+                persistUser(entityManager, "Intérprete", "olinda@email.com", "Olinda"));
+
+        entityManager.persist(new ServiceEntity(null, recife, 150.0, "Acompanhamento jurídico",
+                "Interpretação em audiências"));
+        entityManager.persist(new ServiceEntity(null, recife, 100.0, "Interpretação médica",
+                "Consultas e exames"));
+        entityManager.persist(new ServiceEntity(null, olinda, 80.0, "Aula particular", "Libras básico",
+                LocalDateTime.now().plusMinutes(1)));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void ranksNameMatchesAboveDescriptionMatches() {
+        List<ServiceResponseDTO> services = serviceService.searchServices("interpretação", 10);
+
+        assertThat(services).extracting(ServiceResponseDTO::name)
+                .containsExactly("Interpretação médica", "Acompanhamento jurídico");
+        assertThat(services.get(0).professional().addresses()).hasSize(2);
+    }
+
+    @Test
+    void requiresEveryTermAndHonoursLimit() {
+        assertThat(serviceService.searchServices("libras AULA", 10))
+                .extracting(ServiceResponseDTO::name)
+                .containsExactly("Aula particular");
+        assertThat(serviceService.searchServices("a", 2)).hasSize(2);
+        assertThat(serviceService.searchServices("  ", 10)).isEmpty();
+        assertThat(serviceService.searchServices("100%", 10)).isEmpty();
+    }
+
+    @Test
+    void filtersByNormalizedCityAndState() {
+        assertThat(names(catalog(null, "RECIFE", null, null, 0, 20)))
+                .containsExactly("Acompanhamento jurídico", "Interpretação médica");
+        assertThat(names(catalog("aula", null, " pe", null, 0, 20)))
+                .containsExactly("Aula particular");
+        assertThat(names(catalog(null, "olinda", "PE", "interpretação", 0, 20))).hasSize(1);
+        assertThat(names(catalog(null, "Olinda", "SP", null, 0, 20))).isEmpty();
+    }
+
+    @Test
+    void pagesAndCountsFacetsWithGroupedQueries() {
+        statistics.clear();
+        ServicePageResponseDTO page = catalog(null, null, "PE", null, 0, 2);
+
+        assertThat(names(page)).containsExactly("Acompanhamento jurídico", "Aula particular");
+        assertThat(page.totalElements()).isEqualTo(3);
+        // Página, contagem, quatro facetas, profissionais e endereços
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(8);
+
+        assertThat(page.facets().states()).containsExactly(new FacetCountResponseDTO("pe", 3));
+        assertThat(page.facets().cities()).containsExactly(
+                new FacetCountResponseDTO("recife", 2), new FacetCountResponseDTO("olinda", 1));
+        assertThat(page.facets().areasOfExpertise()).containsExactly(
+                new FacetCountResponseDTO("Interpretação", 3));
+        assertThat(page.facets().priceBands()).containsExactly(
+                new FacetCountResponseDTO("50-100", 1), new FacetCountResponseDTO("100-200", 2));
+
+        ServicePageResponseDTO last = catalog(null, null, "PE", null, 1, 2);
+        assertThat(names(last)).containsExactly("Interpretação médica");
+        assertThat(last.totalElements()).isEqualTo(3);
+    }
+
+    @Test
+    void facetsIgnoreTheirOwnFilter() {
+        ServicePageResponseDTO page = catalog(null, "olinda", null, null, 0, 20);
+
+        assertThat(names(page)).containsExactly("Aula particular");
+        assertThat(page.facets().cities()).extracting(FacetCountResponseDTO::value)
+                .containsExactly("recife", "olinda");
+        assertThat(page.facets().priceBands()).containsExactly(new FacetCountResponseDTO("50-100", 1));
+    }
+
+    @Test
+    void filtersByPriceRangeAndSortsByPrice() {
+        ServicePageResponseDTO page = serviceService.searchCatalog(null, null, null, null, 90.0, 150.0, "price_desc",
+                null, 0, 20);
+
+        assertThat(names(page)).containsExactly("Acompanhamento jurídico", "Interpretação médica");
+        assertThat(page.nextCursor()).isNull();
+        // A faceta de preço ignora o próprio filtro
+        assertThat(page.facets().priceBands()).containsExactly(
+                new FacetCountResponseDTO("50-100", 1), new FacetCountResponseDTO("100-200", 2));
+
+        assertThat(names(serviceService.searchCatalog(null, null, null, null, null, 100.0, "price", null, 0, 20)))
+                .containsExactly("Aula particular", "Interpretação médica");
+        assertThatThrownBy(() -> serviceService.searchCatalog(null, null, null, null, 200.0, 100.0, null, null, 0,
+                20)).isInstanceOf(InvalidPriceRangeException.class);
+        assertThatThrownBy(() -> serviceService.searchCatalog(null, null, null, null, null, null, "rating", null, 0,
+                20)).isInstanceOf(InvalidSortException.class);
+    }
+
+    @Test
+    void pagesPastTheMaximumAreRejectedInsteadOfOverflowingTheOffset() {
+        assertThat(serviceService.searchCatalog(null, null, null, null, null, null, null, null, 10_000, 100)
+                .content()).isEmpty();
+        assertThatThrownBy(() -> serviceService.searchCatalog(null, null, null, null, null, null, null, null,
+                Integer.MAX_VALUE / 50, 100)).isInstanceOf(InvalidPageException.class);
+    }
+
+    @Test
+    void keysetPagesWalkTheWholeListingWithoutCounting() {
+        ServicePageResponseDTO first = serviceService.searchCatalog(null, null, "PE", null, null, null, "price", null,
+                0, 1);
+        assertThat(names(first)).containsExactly("Aula particular");
+        assertThat(first.nextCursor()).isNotNull();
+
+        statistics.clear();
+        ServicePageResponseDTO second = serviceService.searchCatalog(null, null, "PE", null, null, null, "price",
+                first.nextCursor(), 0, 1);
+        assertThat(names(second)).containsExactly("Interpretação médica");
+        assertThat(second.totalElements()).isNull();
+        assertThat(second.facets()).isNull();
+        // Página, profissionais e endereços: sem contagem nem facetas
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+
+        ServicePageResponseDTO third = serviceService.searchCatalog(null, null, "PE", null, null, null, "price",
+                second.nextCursor(), 0, 1);
+        assertThat(names(third)).containsExactly("Acompanhamento jurídico");
+        assertThat(third.nextCursor()).isNull();
+
+        // Cursor de outra ordenação é rejeitado
+        assertThatThrownBy(() -> serviceService.searchCatalog(null, null, "PE", null, null, null, "newest",
+                first.nextCursor(), 0, 1)).isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void newestSortReturnsLatestServicesFirst() {
+        assertThat(names(serviceService.searchCatalog(null, null, null, null, null, null, "newest", null, 0, 20)))
+                .first().isEqualTo("Aula particular");
+    }
+
+    private ServicePageResponseDTO catalog(String name, String city, String state, String areaOfExpertise, int page,
+                                           int size) {
+        return serviceService.searchCatalog(name, city, state, areaOfExpertise, null, null, null, null, page, size);
+    }
+
+    private List<String> names(ServicePageResponseDTO page) {
+        return page.content().stream().map(ServiceResponseDTO::name).toList();
+    }
+}
@@ -0,0 +1,49 @@
+package com.connectdeaf.services;
+
+import java.time.Duration;
+import java.time.LocalTime;
+
+import com.connectdeaf.domain.address.Address;
+import com.connectdeaf.domain.professional.Professional;
+import com.connectdeaf.domain.user.User;
+
+import jakarta.persistence.EntityManager;
+
+// Usuários e profissionais dos testes de serviço: por padrão, intérprete de Libras das 8h às 17h com slots de 1h
+final class TestEntities {
+
+    private TestEntities() {
+    }
+
+    // Um endereço na Rua da Aurora para cada cidade informada
+    static User persistUser(EntityManager entityManager, String name, String email, String... cities) {
+        User user = new User(name, email, "secret", "81999999999");
+        entityManager.persist(user);
+        for (String city : cities) {
+            Address address = new Address();
+            address.setCep("50000-000");
+            address.setStreet("Rua da Aurora");
+            address.setNumber("100");
+            address.setNeighborhood("Centro");
+            address.setCity(city);
+            address.setState("PE");
+            address.setUser(user);
+            entityManager.persist(address);
+        }
+        return user;
+    }
+
+    static Professional persistProfessional(EntityManager entityManager, User user) {
+        return persistProfessional(entityManager, user, "Libras", "Interpretação", LocalTime.of(8, 0),
+                LocalTime.of(17, 0));
+    }
+
+    static Professional persistProfessional(EntityManager entityManager, User user, String qualification,
+                                            String areaOfExpertise, LocalTime workStartTime,
+                                            LocalTime workEndTime) {
+        Professional professional = new Professional(null, qualification, areaOfExpertise, user, null,
+                workStartTime, workEndTime, Duration.ofHours(1));
+        entityManager.persist(professional);
+        return professional;
+    }
+}
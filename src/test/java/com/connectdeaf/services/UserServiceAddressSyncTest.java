@@ -0,0 +1,113 @@
+package com.connectdeaf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.connectdeaf.controllers.dtos.requests.AddressRequestDTO;
+import com.connectdeaf.controllers.dtos.requests.UserRequestDTO;
+import com.connectdeaf.controllers.dtos.response.AddressResponseDTO;
+import com.connectdeaf.controllers.dtos.response.UserResponseDTO;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class UserServiceAddressSyncTest {
+
+    private static final AddressRequestDTO HOME = address("Rua da Aurora", "10", "Recife");
+    private static final AddressRequestDTO WORK = address("Avenida Boa Viagem", "200", "Recife");
+    private static final AddressRequestDTO PARENTS = address("Rua do Sol", "5", "Olinda");
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        userId = userService.createUser(request(List.of(HOME, WORK)), false).id();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void repeatedUpdatesWithTheSameAddressesWriteNothing() {
+        List<UUID> ids = addressIds();
+
+        for (int i = 0; i < 3; i++) {
+            update(List.of(WORK, HOME));
+
+            assertThat(statistics.getEntityInsertCount()).isZero();
+            assertThat(statistics.getEntityUpdateCount()).isZero();
+            assertThat(statistics.getEntityDeleteCount()).isZero();
+            assertThat(addressIds()).containsExactlyInAnyOrderElementsOf(ids);
+        }
+    }
+
+    @Test
+    void changedAddressesAreRewrittenInPlaceAndOnlyTheDifferenceInsertedOrDeleted() {
+        List<UUID> ids = addressIds();
+
+        AddressRequestDTO movedWork = address("Avenida Boa Viagem", "300", "Recife");
+        UserResponseDTO response = update(List.of(HOME, movedWork, PARENTS));
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        assertThat(addressIds()).hasSize(3).containsAll(ids);
+        assertThat(response.addresses()).extracting(AddressResponseDTO::street)
+                .containsExactlyInAnyOrder("Rua da Aurora", "Avenida Boa Viagem", "Rua do Sol");
+
+        update(List.of(PARENTS));
+
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("select street from tb_address where user_id = ?", String.class,
+                userId)).isEqualTo("Rua do Sol");
+    }
+
+    private UserResponseDTO update(List<AddressRequestDTO> addresses) {
+        statistics.clear();
+        UserResponseDTO response = userService.updateUser(userId, request(addresses));
+        entityManager.flush();
+        entityManager.clear();
+        return response;
+    }
+
+    private List<UUID> addressIds() {
+        return jdbcTemplate.queryForList("select id from tb_address where user_id = ?", UUID.class, userId);
+    }
+
+    private static UserRequestDTO request(List<AddressRequestDTO> addresses) {
+        return new UserRequestDTO("Endereços", "enderecos@email.com", "senha", "81999999999", addresses);
+    }
+
+    private static AddressRequestDTO address(String street, String number, String city) {
+        return new AddressRequestDTO("50000-000", street, number, null, "Centro", city, "PE");
+    }
+}
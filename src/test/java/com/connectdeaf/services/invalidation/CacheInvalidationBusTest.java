@@ -0,0 +1,148 @@
+package com.connectdeaf.services.invalidation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.connectdeaf.ConnectdeafApplication;
+import com.connectdeaf.controllers.dtos.requests.AppointmentRequestDTO;
+import com.connectdeaf.controllers.dtos.requests.ServiceRequestDTO;
+import com.connectdeaf.controllers.dtos.response.ScheduleResponseDTO;
+import com.connectdeaf.controllers.dtos.response.ServiceResponseDTO;
+import com.connectdeaf.domain.professional.Professional;
+import com.connectdeaf.domain.user.User;
+import com.connectdeaf.services.AppointmentService;
+import com.connectdeaf.services.ProfessionalService;
+import com.connectdeaf.services.ServiceService;
+
+import jakarta.persistence.EntityManager;
+
+// Dois contextos no mesmo banco fazem o papel de dois nós. Com -Dconnectdeaf.test.bus.url=jdbc:postgresql://...
+// (e .username/.password) exercita LISTEN/NOTIFY em vez da tabela
+class CacheInvalidationBusTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 8, 5);
+    private static final Duration PROPAGATION_TIMEOUT = Duration.ofSeconds(10);
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+    private UUID customerId;
+    private UUID professionalId;
+    private UUID professionalUserId;
+
+    @BeforeEach
+    void setUp() {
+        String url = System.getProperty("connectdeaf.test.bus.url",
+                "jdbc:h2:mem:connectdeaf_bus;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;"
+                        + "NON_KEYWORDS=VALUE");
+        nodeA = startNode(url);
+        nodeB = startNode(url);
+
+        TransactionTemplate transactionTemplate = nodeA.getBean(TransactionTemplate.class);
+        EntityManager entityManager = nodeA.getBean(EntityManager.class);
+        transactionTemplate.executeWithoutResult(status -> {
+            User customer = new User("Cliente", "cliente-nos@email.com", "secret", "81999999999");
+            entityManager.persist(customer);
+            User professionalUser = new User("Intérprete", "interprete-nos@email.com", "secret", "81988888888");
+            entityManager.persist(professionalUser);
+            Professional professional = new Professional(null, "Libras", "Interpretação", professionalUser, null,
+                    LocalTime.of(8, 0), LocalTime.of(12, 0), Duration.ofHours(1));
+            entityManager.persist(professional);
+
+            customerId = customer.getId();
+            professionalId = professional.getId();
+            professionalUserId = professionalUser.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        JdbcTemplate jdbcTemplate = nodeA.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("delete from tb_appointment where professional_id = ?", professionalId);
+        jdbcTemplate.update("delete from tb_schedule where professional_id = ?", professionalId);
+        jdbcTemplate.update("delete from tb_service where professional_id = ?", professionalId);
+        jdbcTemplate.update("delete from tb_professional where id = ?", professionalId);
+        jdbcTemplate.update("delete from tb_user where id in (?, ?)", customerId, professionalUserId);
+        nodeB.close();
+        nodeA.close();
+    }
+
+    @Test
+    void serviceCreatedOnOneNodeReachesTheOtherNodesCatalog() {
+        ServiceService servicesA = nodeA.getBean(ServiceService.class);
+        ServiceService servicesB = nodeB.getBean(ServiceService.class);
+        servicesB.findAllServices();
+        servicesB.findServicesByProfessional(professionalId);
+
+        ServiceResponseDTO created = servicesA.createService(professionalId,
+                new ServiceRequestDTO("Aula de Libras", "Básico", 80.0));
+
+        awaitTrue(() -> servicesB.findAllServices().stream().anyMatch(s -> s.id().equals(created.id())));
+        assertThat(servicesB.findServicesByProfessional(professionalId))
+                .extracting(ServiceResponseDTO::id)
+                .containsExactly(created.id());
+    }
+
+    @Test
+    void bookingOnOneNodeOccupiesTheSlotInTheOtherNodesIndex() {
+        ServiceResponseDTO service = nodeA.getBean(ServiceService.class).createService(professionalId,
+                new ServiceRequestDTO("Interpretação", null, 100.0));
+        ProfessionalService professionalsB = nodeB.getBean(ProfessionalService.class);
+        assertThat(startTimes(professionalsB.getSchedulesByProfessionalAndDate(professionalId, DAY))).hasSize(4);
+
+        nodeA.getBean(AppointmentService.class).createAppointment(new AppointmentRequestDTO(
+                customerId, professionalId, service.id(), DAY, LocalTime.of(9, 0), LocalTime.of(10, 0)));
+
+        awaitTrue(() -> !startTimes(professionalsB.getSchedulesByProfessionalAndDate(professionalId, DAY))
+                .contains(LocalTime.of(9, 0)));
+        assertThat(startTimes(professionalsB.getSchedulesByProfessionalAndDate(professionalId, DAY)))
+                .containsExactly(LocalTime.of(8, 0), LocalTime.of(10, 0), LocalTime.of(11, 0));
+    }
+
+    private static ConfigurableApplicationContext startNode(String url) {
+        // Argumentos de linha de comando: têm precedência sobre application.properties (perfil prod)
+        // O CacheManager JCache é único por JVM e fechado junto com a SessionFactory: os nós
+        // extras não usam o cache de segundo nível para não derrubar o do contexto de teste
+        return new SpringApplicationBuilder(ConnectdeafApplication.class).run(
+                "--spring.profiles.active=test",
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.username=" + System.getProperty("connectdeaf.test.bus.username", "sa"),
+                "--spring.datasource.password=" + System.getProperty("connectdeaf.test.bus.password", ""),
+                "--spring.jpa.hibernate.ddl-auto=update",
+                "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                "--spring.jpa.properties.hibernate.cache.use_query_cache=false",
+                "--spring.main.web-application-type=none",
+                "--connectdeaf.cache.invalidation.poll-interval=PT0.05S");
+    }
+
+    private static List<LocalTime> startTimes(List<ScheduleResponseDTO> schedules) {
+        return schedules.stream().map(ScheduleResponseDTO::startTime).toList();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + PROPAGATION_TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("invalidation not propagated in %s", PROPAGATION_TIMEOUT)
+                    .isLessThan(deadline);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,5 @@
+MERGE INTO tb_roles (id, name) KEY (id) VALUES (1, 'ROLE_USER');
+
+MERGE INTO tb_roles (id, name) KEY (id) VALUES (2, 'ROLE_PROFESSIONAL');
+
+MERGE INTO tb_roles (id, name) KEY (id) VALUES (3, 'ROLE_ADMIN');